@@ -0,0 +1,110 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.product.application.IProductService;
+import com.example.productsapi.product.application.coalescing.CoalescingProductService;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Database load of a thundering herd: many threads reading the same few pages at once,
+ * with and without {@link CoalescingProductService} in front of the service.
+ * <p>
+ * The service behind it is a stand-in whose {@code getAll} blocks for {@code queryLatencyMicros},
+ * like an uncached query. Besides the throughput, JMH reports {@code databaseCalls}: the rate of calls
+ * that reached it, to be compared with the rate of operations.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class CoalescingBenchmark {
+
+    private static final ThreadLocal<DatabaseCalls> DATABASE_CALLS = new ThreadLocal<>();
+
+    @Param({"true", "false"})
+    private boolean coalescing;
+
+    @Param({"4"})
+    private int hotPages;
+
+    @Param({"500"})
+    private long queryLatencyMicros;
+
+    private IProductService productService;
+    private final ProductFilterDTORequest filter = new ProductFilterDTORequest();
+    private Pageable[] pages;
+
+    /**
+     * Calls that reached the stand-in database, counted by the thread that made them.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class DatabaseCalls {
+
+        public long databaseCalls;
+
+        @Setup(Level.Iteration)
+        public void register() {
+            databaseCalls = 0;
+            DATABASE_CALLS.set(this);
+        }
+
+    }
+
+    @Setup
+    public void setUp() {
+        pages = new Pageable[hotPages];
+        for (int i = 0; i < hotPages; i++)
+            pages[i] = PageRequest.of(i, 20);
+
+        Page<ProductDTOResponse> page = new PageImpl<>(List.of(ProductFixtures.productDTOResponse()));
+        long queryLatencyNanos = TimeUnit.MICROSECONDS.toNanos(queryLatencyMicros);
+        IProductService database = (IProductService) Proxy.newProxyInstance(
+                IProductService.class.getClassLoader(),
+                new Class<?>[]{IProductService.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getAll"))
+                        throw new UnsupportedOperationException(method.getName());
+                    DATABASE_CALLS.get().databaseCalls++;
+                    LockSupport.parkNanos(queryLatencyNanos);
+                    return page;
+                });
+
+        productService = coalescing ? new CoalescingProductService(database, new SimpleMeterRegistry()) : database;
+    }
+
+    @Benchmark
+    public Page<ProductDTOResponse> getHotPage(DatabaseCalls databaseCalls) {
+        return productService.getAll(filter, pages[ThreadLocalRandom.current().nextInt(pages.length)], false);
+    }
+
+}
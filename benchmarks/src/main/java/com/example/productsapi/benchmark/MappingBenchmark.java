@@ -0,0 +1,94 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.product.application.dto.mapper.IProductDTOMapper;
+import com.example.productsapi.product.application.dto.mapper.IProductDTOMapperImpl;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+import com.example.productsapi.product.infrastructure.database.mapper.IProductEntityMapper;
+import com.example.productsapi.product.infrastructure.database.mapper.IProductEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions between the request/response DTOs, the
+ * {@link Product} domain model and the {@link ProductEntity} JPA entity.
+ * <p>
+ * Uses the generated mapper implementations directly, exactly as Spring injects them.
+ * The {@code create*} and {@code read*} benchmarks chain the conversions done by a
+ * create and a read request respectively.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final IProductDTOMapper productDTOMapper = new IProductDTOMapperImpl();
+    private final IProductEntityMapper productEntityMapper = new IProductEntityMapperImpl();
+
+    private CreateProductDTORequest createRequest;
+    private UpdateProductDTORequest updateRequest;
+    private Product product;
+    private ProductEntity productEntity;
+
+    @Setup
+    public void setUp() {
+        createRequest = ProductFixtures.createRequest();
+        updateRequest = ProductFixtures.updateRequest();
+        product = ProductFixtures.product();
+        productEntity = ProductFixtures.productEntity();
+    }
+
+    @Benchmark
+    public Product createRequestToDomain() {
+        return productDTOMapper.toProduct(createRequest);
+    }
+
+    @Benchmark
+    public Product updateRequestToDomain() {
+        return productDTOMapper.toProduct(updateRequest);
+    }
+
+    @Benchmark
+    public ProductEntity domainToEntity() {
+        return productEntityMapper.toProductEntity(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return productEntityMapper.toProduct(productEntity);
+    }
+
+    @Benchmark
+    public ProductDTOResponse domainToResponse() {
+        return productDTOMapper.toProductDTOResponse(product);
+    }
+
+    @Benchmark
+    public ProductDTOResponse createPath() {
+        ProductEntity entity = productEntityMapper.toProductEntity(productDTOMapper.toProduct(createRequest));
+        return productDTOMapper.toProductDTOResponse(productEntityMapper.toProduct(entity));
+    }
+
+    @Benchmark
+    public ProductDTOResponse readPath() {
+        return productDTOMapper.toProductDTOResponse(productEntityMapper.toProduct(productEntity));
+    }
+
+}
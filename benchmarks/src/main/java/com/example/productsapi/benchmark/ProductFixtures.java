@@ -0,0 +1,75 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.common.id.UuidV7;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+
+/**
+ * Representative product payloads shared by the benchmarks.
+ */
+final class ProductFixtures {
+
+    private ProductFixtures() {
+    }
+
+    static CreateProductDTORequest createRequest() {
+        CreateProductDTORequest request = new CreateProductDTORequest();
+        request.setName("pencil");
+        request.setDescription("black graphite pencil, HB, pack of 12");
+        request.setStock(250L);
+        request.setBasePrice(200.0);
+        request.setCostPrice(150.0);
+        return request;
+    }
+
+    static CreateProductDTORequest invalidCreateRequest() {
+        CreateProductDTORequest request = createRequest();
+        request.setName(" ");
+        request.setStock(null);
+        request.setCostPrice(-1.0);
+        return request;
+    }
+
+    static UpdateProductDTORequest updateRequest() {
+        UpdateProductDTORequest request = new UpdateProductDTORequest();
+        request.setId(UuidV7.randomUuid());
+        request.setName("pencil");
+        request.setDescription("black graphite pencil, HB, pack of 12");
+        request.setStock(250L);
+        request.setBasePrice(200.0);
+        request.setCostPrice(150.0);
+        return request;
+    }
+
+    static Product product() {
+        return new Product(UuidV7.randomUuid(), "pencil", "black graphite pencil, HB, pack of 12", 250L, 200.0, 150.0, 0L);
+    }
+
+    static ProductEntity productEntity() {
+        ProductEntity productEntity = new ProductEntity();
+        productEntity.setId(UuidV7.randomUuid());
+        productEntity.setName("pencil");
+        productEntity.setDescription("black graphite pencil, HB, pack of 12");
+        productEntity.setStock(250L);
+        productEntity.setBasePrice(200.0);
+        productEntity.setCostPrice(150.0);
+        productEntity.setVersion(0L);
+        return productEntity;
+    }
+
+    static ProductDTOResponse productDTOResponse() {
+        ProductDTOResponse productDTOResponse = new ProductDTOResponse();
+        productDTOResponse.setId(UuidV7.randomUuid());
+        productDTOResponse.setName("pencil");
+        productDTOResponse.setDescription("black graphite pencil, HB, pack of 12");
+        productDTOResponse.setStock(250L);
+        productDTOResponse.setBasePrice(200.0);
+        productDTOResponse.setCostPrice(150.0);
+        productDTOResponse.setVersion(0L);
+        return productDTOResponse;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.infrastructure.json.ProductJson;
+import com.example.productsapi.product.infrastructure.json.ProductJsonCache;
+import com.example.productsapi.product.infrastructure.json.ProductJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of the Jackson (de)serialization done by the REST layer: reading a create request body,
+ * and writing a single {@link ProductDTOResponse} or a {@link Page} of them.
+ * <p>
+ * The {@link ObjectMapper} is built with {@link Jackson2ObjectMapperBuilder}, which applies
+ * the same defaults as the one Spring Boot configures for the application. {@code writeCachedProduct}
+ * writes a product the way {@code GET /{id}} does, from the {@link ProductJsonCache} once the warmup
+ * has filled it, and {@code writeCachedPage} writes a page whose products are all cached, through a
+ * mapper with the {@link ProductJsonModule}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ProductJsonCache productJsonCache;
+    private ObjectMapper cachingObjectMapper;
+    private ProductDTOResponse productDTOResponse;
+    private Page<ProductDTOResponse> productsPage;
+    private byte[] createRequestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        productJsonCache = new ProductJsonCache(10_000, new SimpleMeterRegistry());
+        cachingObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ProductJsonModule(productJsonCache))
+                .build();
+        productDTOResponse = ProductFixtures.productDTOResponse();
+
+        List<ProductDTOResponse> content = Stream.generate(ProductFixtures::productDTOResponse)
+                .limit(pageSize)
+                .toList();
+        productsPage = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("id")), 10_000);
+        for (ProductDTOResponse product : content)
+            productJsonCache.put(product, objectMapper.writeValueAsBytes(product));
+
+        createRequestJson = objectMapper.writeValueAsBytes(ProductFixtures.createRequest());
+    }
+
+    @Benchmark
+    public CreateProductDTORequest readCreateRequest() throws Exception {
+        return objectMapper.readValue(createRequestJson, CreateProductDTORequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeProduct() throws Exception {
+        return objectMapper.writeValueAsBytes(productDTOResponse);
+    }
+
+    @Benchmark
+    public byte[] writeCachedProduct() throws Exception {
+        ProductJson json = productJsonCache.get(productDTOResponse);
+        if (json == null)
+            json = productJsonCache.put(productDTOResponse, objectMapper.writeValueAsBytes(productDTOResponse));
+        return json.bytes();
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return objectMapper.writeValueAsBytes(productsPage);
+    }
+
+    @Benchmark
+    public byte[] writeCachedPage() throws Exception {
+        return cachingObjectMapper.writeValueAsBytes(productsPage);
+    }
+
+}
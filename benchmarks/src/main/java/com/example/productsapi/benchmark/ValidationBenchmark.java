@@ -0,0 +1,103 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.validation.ProductValidator;
+import com.example.productsapi.product.domain.Product;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating product requests: the Bean Validation constraints declared on the
+ * request DTOs (what {@code @Valid} runs) and the business rules of {@link ProductValidator}.
+ * <p>
+ * Invalid payloads are measured separately, as building violation messages and exceptions
+ * is much more expensive than accepting valid data.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ProductValidator productValidator;
+
+    private CreateProductDTORequest createRequest;
+    private CreateProductDTORequest invalidCreateRequest;
+    private UpdateProductDTORequest updateRequest;
+    private Product product;
+    private Product invalidProduct;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        productValidator = new ProductValidator(validator);
+
+        createRequest = ProductFixtures.createRequest();
+        invalidCreateRequest = ProductFixtures.invalidCreateRequest();
+        updateRequest = ProductFixtures.updateRequest();
+        product = ProductFixtures.product();
+        invalidProduct = ProductFixtures.product();
+        invalidProduct.setBasePrice(100.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateProductDTORequest>> beanValidationCreateValid() {
+        return validator.validate(createRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateProductDTORequest>> beanValidationCreateInvalid() {
+        return validator.validate(invalidCreateRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UpdateProductDTORequest>> beanValidationUpdateValid() {
+        return validator.validate(updateRequest);
+    }
+
+    @Benchmark
+    public Product businessRulesValid() {
+        productValidator.validateProductData(product);
+        return product;
+    }
+
+    @Benchmark
+    public InvalidDataEntryException businessRulesInvalid() {
+        try {
+            productValidator.validateProductData(invalidProduct);
+            return null;
+        } catch (InvalidDataEntryException e) {
+            return e;
+        }
+    }
+
+}
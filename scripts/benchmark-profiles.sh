@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Compares the 'dev' and 'prod' profiles on the create/update/getById workload.
+#
+# Boots the packaged API once per profile against MySQL, each time on a fresh database, drives it with
+# ProductsControllerLoadTests (see "LOAD TEST" in the README) and prints both reports side by side.
+#
+# Requires a running MySQL server, e.g. `docker compose up -d mysql`. Settings (environment variables):
+#   MYSQL_URL       JDBC URL of the server, without database   (default: jdbc:mysql://localhost:3306)
+#   MYSQL_USER      user allowed to create databases            (default: root)
+#   MYSQL_PASSWORD  its password                                (default: root)
+#   PORT            HTTP port the API is started on             (default: 8081)
+#   CATALOG_SIZE, THREADS, WARMUP_SECONDS, DURATION_SECONDS, MIX   load test parameters
+#
+# Usage: scripts/benchmark-profiles.sh [profile...]    (default: dev prod)
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MYSQL_URL=${MYSQL_URL:-jdbc:mysql://localhost:3306}
+MYSQL_USER=${MYSQL_USER:-root}
+MYSQL_PASSWORD=${MYSQL_PASSWORD:-root}
+PORT=${PORT:-8081}
+CATALOG_SIZE=${CATALOG_SIZE:-50000}
+THREADS=${THREADS:-64}
+WARMUP_SECONDS=${WARMUP_SECONDS:-15}
+DURATION_SECONDS=${DURATION_SECONDS:-60}
+MIX=${MIX:-create:30,update:20,getById:50}
+if [[ $# -gt 0 ]]; then PROFILES=("$@"); else PROFILES=(dev prod); fi
+
+OUT_DIR=target/benchmark-profiles
+mkdir -p "$OUT_DIR"
+
+./mvnw -q -B package -DskipTests
+JAR=$(ls target/*-exec.jar)
+
+app_pid=
+stop_app() {
+    if [[ -n "$app_pid" ]]; then
+        kill "$app_pid" 2>/dev/null || true
+        wait "$app_pid" 2>/dev/null || true
+        app_pid=
+    fi
+}
+trap stop_app EXIT
+
+for profile in "${PROFILES[@]}"; do
+    database="products_bench_${profile}_$(date +%s)"
+    echo "=== Profile '$profile' (database $database)"
+
+    java -jar "$JAR" \
+        --spring.profiles.active="$profile" \
+        --server.port="$PORT" \
+        --spring.datasource.url="$MYSQL_URL/$database?createDatabaseIfNotExist=true" \
+        --spring.datasource.username="$MYSQL_USER" \
+        --spring.datasource.password="$MYSQL_PASSWORD" \
+        > "$OUT_DIR/$profile.log" 2>&1 &
+    app_pid=$!
+
+    until curl -fs "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$app_pid" 2>/dev/null; then
+            echo "The API failed to start, see $OUT_DIR/$profile.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    ./mvnw -q -B test -Dtest=ProductsControllerLoadTests -Dloadtest=true \
+        -Dloadtest.base-url="http://localhost:$PORT" \
+        -Dloadtest.catalog-size="$CATALOG_SIZE" -Dloadtest.threads="$THREADS" \
+        -Dloadtest.warmup-seconds="$WARMUP_SECONDS" -Dloadtest.duration-seconds="$DURATION_SECONDS" \
+        -Dloadtest.mix="$MIX"
+    cp "$(ls -t target/loadtest/*.csv | head -n 1)" "$OUT_DIR/$profile.csv"
+
+    stop_app
+done
+
+for profile in "${PROFILES[@]}"; do
+    echo
+    echo "=== $profile"
+    column -s, -t < "$OUT_DIR/$profile.csv"
+done
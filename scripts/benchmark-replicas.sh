@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+#
+# Measures how read throughput scales with the number of read replicas.
+#
+# Boots the packaged API (prod profile) with 0, 1 and 2 replicas, each time on a fresh database, drives it with
+# a read-only ProductsControllerLoadTests mix and prints the reports. The products and Hibernate caches are
+# switched off, so that every read reaches a database.
+#
+# Requires the primary and both replicas of docker-compose.replicas.yaml:
+#   docker compose -f docker-compose.yaml -f docker-compose.replicas.yaml up -d mysql mysql-replica-1 mysql-replica-2
+#
+# Settings (environment variables):
+#   PRIMARY_URL     JDBC URL of the primary, without database    (default: jdbc:mysql://localhost:3307)
+#   REPLICA_URLS    space-separated JDBC URLs of the replicas     (default: jdbc:mysql://localhost:3308 jdbc:mysql://localhost:3309)
+#   MYSQL_USER      user of every server                           (default: root)
+#   MYSQL_PASSWORD  its password                                   (default: root)
+#   SELECTION       round-robin or least-connections               (default: round-robin)
+#   PORT            HTTP port the API is started on                (default: 8081)
+#   CATALOG_SIZE, THREADS, WARMUP_SECONDS, DURATION_SECONDS, MIX   load test parameters
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PRIMARY_URL=${PRIMARY_URL:-jdbc:mysql://localhost:3307}
+read -r -a REPLICAS <<< "${REPLICA_URLS:-jdbc:mysql://localhost:3308 jdbc:mysql://localhost:3309}"
+MYSQL_USER=${MYSQL_USER:-root}
+MYSQL_PASSWORD=${MYSQL_PASSWORD:-root}
+SELECTION=${SELECTION:-round-robin}
+PORT=${PORT:-8081}
+CATALOG_SIZE=${CATALOG_SIZE:-50000}
+THREADS=${THREADS:-64}
+WARMUP_SECONDS=${WARMUP_SECONDS:-15}
+DURATION_SECONDS=${DURATION_SECONDS:-60}
+MIX=${MIX:-getAll:50,getById:50}
+
+OUT_DIR=target/benchmark-replicas
+mkdir -p "$OUT_DIR"
+
+./mvnw -q -B package -DskipTests
+JAR=$(ls target/*-exec.jar)
+
+app_pid=
+stop_app() {
+    if [[ -n "$app_pid" ]]; then
+        kill "$app_pid" 2>/dev/null || true
+        wait "$app_pid" 2>/dev/null || true
+        app_pid=
+    fi
+}
+trap stop_app EXIT
+
+for count in $(seq 0 "${#REPLICAS[@]}"); do
+    database="products_bench_replicas_${count}_$(date +%s)"
+    replica_urls=
+    for replica in "${REPLICAS[@]:0:$count}"; do
+        replica_urls+="${replica_urls:+,}$replica/$database"
+    done
+    echo "=== $count replica(s) (database $database)"
+
+    java -jar "$JAR" \
+        --spring.profiles.active=prod \
+        --server.port="$PORT" \
+        --spring.datasource.url="$PRIMARY_URL/$database?createDatabaseIfNotExist=true" \
+        --spring.datasource.username="$MYSQL_USER" \
+        --spring.datasource.password="$MYSQL_PASSWORD" \
+        ${replica_urls:+--products.datasource.replicas.urls="$replica_urls"} \
+        --products.datasource.replicas.selection="$SELECTION" \
+        --spring.cache.type=none \
+        --spring.jpa.properties.hibernate.cache.use_second_level_cache=false \
+        --spring.jpa.properties.hibernate.cache.use_query_cache=false \
+        > "$OUT_DIR/replicas-$count.log" 2>&1 &
+    app_pid=$!
+
+    until curl -fs "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$app_pid" 2>/dev/null; then
+            echo "The API failed to start, see $OUT_DIR/replicas-$count.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    ./mvnw -q -B test -Dtest=ProductsControllerLoadTests -Dloadtest=true \
+        -Dloadtest.base-url="http://localhost:$PORT" \
+        -Dloadtest.catalog-size="$CATALOG_SIZE" -Dloadtest.threads="$THREADS" \
+        -Dloadtest.warmup-seconds="$WARMUP_SECONDS" -Dloadtest.duration-seconds="$DURATION_SECONDS" \
+        -Dloadtest.mix="$MIX"
+    cp "$(ls -t target/loadtest/*.csv | head -n 1)" "$OUT_DIR/replicas-$count.csv"
+
+    stop_app
+done
+
+for count in $(seq 0 "${#REPLICAS[@]}"); do
+    echo
+    echo "=== $count replica(s)"
+    column -s, -t < "$OUT_DIR/replicas-$count.csv"
+done
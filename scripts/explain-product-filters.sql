@@ -0,0 +1,52 @@
+-- Query plans of the filtered product listings (GET /api/v1/products?min...=&max...=).
+-- Every filter should be resolved as a range scan on its idx_products_* index
+-- ("type: range", "key: idx_products_..."), never as a full table scan ("type: ALL").
+--
+-- Run against a populated database, e.g.:
+--   docker exec -i <mysql-container> mysql -u<user> -p<password> products_db < scripts/explain-product-filters.sql
+
+-- Low-stock report
+EXPLAIN
+SELECT id, name, description, stock, base_price, cost_price
+FROM tbl_products
+WHERE stock <= 10
+ORDER BY stock, id
+LIMIT 20;
+
+-- Base price range
+EXPLAIN
+SELECT id, name, description, stock, base_price, cost_price
+FROM tbl_products
+WHERE base_price >= 100 AND base_price <= 200
+ORDER BY base_price, id
+LIMIT 20;
+
+-- Cost price range
+EXPLAIN
+SELECT id, name, description, stock, base_price, cost_price
+FROM tbl_products
+WHERE cost_price >= 50 AND cost_price <= 80
+ORDER BY cost_price, id
+LIMIT 20;
+
+-- Margin range, served by the index on the generated column
+EXPLAIN
+SELECT id, name, description, stock, base_price, cost_price
+FROM tbl_products
+WHERE margin >= 20 AND margin <= 40
+ORDER BY margin, id
+LIMIT 20;
+
+-- Page count of a filter: answered from the index alone ("Using index")
+EXPLAIN
+SELECT count(id)
+FROM tbl_products
+WHERE stock <= 10;
+
+-- Keyset continuation of the low-stock report: a seek on (stock, id)
+EXPLAIN
+SELECT id, name, description, stock, base_price, cost_price
+FROM tbl_products
+WHERE stock <= 10 AND (stock > 3 OR (stock = 3 AND id > UNHEX('0190F0E1A2B37C4D8E9F001122334455')))
+ORDER BY stock, id
+LIMIT 21;
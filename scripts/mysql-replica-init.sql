@@ -0,0 +1,13 @@
+-- Makes a MySQL container a replica of the 'mysql' service of docker-compose.yaml (see docker-compose.replicas.yaml).
+-- Runs once, on the first start of the replica. Replication resumes by itself on later starts.
+-- Uses the root account of the primary; a dedicated replication user would be used outside of a local setup.
+
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
@@ -2,8 +2,13 @@ package com.example.productsapi.common.exception.infrastructure.controller;
 
 import com.example.productsapi.common.exception.InvalidDataEntryException;
 import com.example.productsapi.common.exception.ResponseErrorDTO;
+import com.example.productsapi.product.application.exception.InsufficientStockException;
+import com.example.productsapi.product.application.exception.ProductImportNotFoundException;
 import com.example.productsapi.product.application.exception.ProductNotFoundException;
+import com.example.productsapi.product.application.exception.ProductVersionMismatchException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolation;
+import lombok.RequiredArgsConstructor;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
@@ -12,7 +17,9 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,10 +40,16 @@ import java.util.stream.Collectors;
  *
  * <p><b>Design note:</b> Annotated with {@link RestControllerAdvice} so Spring
  * automatically applies this handler to all REST controllers in the application.</p>
+ *
+ * <p><b>Metrics:</b> Every handled exception increments the {@code products.exceptions} counter,
+ * tagged with the exception type and the HTTP status returned.</p>
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionController {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handles validation errors thrown when request bodies fail
      * to satisfy constraints defined with {@code @Valid}.
@@ -51,6 +64,7 @@ public class ExceptionController {
     public ResponseEntity<ResponseErrorDTO> onInvalidBody(MethodArgumentNotValidException ex) {
         Map<String, String> fields = ex.getBindingResult().getFieldErrors().stream()
                 .collect(Collectors.toMap(FieldError::getField, DefaultMessageSourceResolvable::getDefaultMessage, (a, b)->a));
+        countException(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(new ResponseErrorDTO("Invalid input data", "Validation failed", fields));
     }
@@ -72,6 +86,7 @@ public class ExceptionController {
                         v -> v.getPropertyPath().toString(),
                         ConstraintViolation::getMessage,
                         (a,b)->a));
+        countException(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(new ResponseErrorDTO("Invalid input data", "Validation failed", fields));
     }
@@ -87,10 +102,43 @@ public class ExceptionController {
     public ResponseEntity<ResponseErrorDTO> onTypeMismatch(MethodArgumentTypeMismatchException ex) {
         String field = ex.getName();
         String message = "Invalid value for '" + field + "'";
+        countException(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(new ResponseErrorDTO("Invalid input data", message, Map.of(field, "invalid format")));
     }
 
+    /**
+     * Handles validation errors of request bodies on the reactive (WebFlux) stack.
+     *
+     * @param ex the {@link WebExchangeBindException} containing details of validation errors.
+     * @return a {@link ResponseEntity} with HTTP 400 (Bad Request)
+     *         and a detailed {@link ResponseErrorDTO} listing invalid fields.
+     *
+     * <p>WebFlux counterpart of {@link #onInvalidBody(MethodArgumentNotValidException)}.</p>
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ResponseErrorDTO> onInvalidReactiveBody(WebExchangeBindException ex) {
+        Map<String, String> fields = ex.getBindingResult().getFieldErrors().stream()
+                .collect(Collectors.toMap(FieldError::getField, DefaultMessageSourceResolvable::getDefaultMessage, (a, b)->a));
+        countException(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest()
+                .body(new ResponseErrorDTO("Invalid input data", "Validation failed", fields));
+    }
+
+    /**
+     * Handles malformed requests on the reactive (WebFlux) stack, such as unreadable
+     * bodies or path variables that cannot be converted to the expected type.
+     *
+     * @param ex the {@link ServerWebInputException} describing the invalid input.
+     * @return a {@link ResponseEntity} with HTTP 400 (Bad Request) and a descriptive error message.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ResponseErrorDTO> onInvalidReactiveInput(ServerWebInputException ex) {
+        countException(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest()
+                .body(new ResponseErrorDTO("Invalid input data", ex.getReason(), null));
+    }
+
     /**
      * Handles cases where a requested product does not exist in the system.
      *
@@ -100,10 +148,53 @@ public class ExceptionController {
      */
     @ExceptionHandler(ProductNotFoundException.class)
     public ResponseEntity<ResponseErrorDTO> onNotFound(ProductNotFoundException ex) {
+        countException(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ResponseErrorDTO("Product not found", ex.getMessage(), null));
     }
 
+    /**
+     * Handles conditional writes ({@code If-Match}) made against an outdated version of a product.
+     *
+     * @param ex the {@link ProductVersionMismatchException} thrown when the version check fails.
+     * @return a {@link ResponseEntity} with HTTP 412 (Precondition Failed)
+     *         and an error message asking the client to read the product again.
+     */
+    @ExceptionHandler(ProductVersionMismatchException.class)
+    public ResponseEntity<ResponseErrorDTO> onVersionMismatch(ProductVersionMismatchException ex) {
+        countException(ex, HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ResponseErrorDTO("Precondition failed", ex.getMessage(), null));
+    }
+
+    /**
+     * Handles stock adjustments that would leave a product with a negative stock.
+     *
+     * @param ex the {@link InsufficientStockException} thrown by the conditional stock update.
+     * @return a {@link ResponseEntity} with HTTP 409 (Conflict)
+     *         and an error message describing the rejected adjustment.
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ResponseErrorDTO> onInsufficientStock(InsufficientStockException ex) {
+        countException(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ResponseErrorDTO("Insufficient stock", ex.getMessage(), null));
+    }
+
+    /**
+     * Handles cases where a requested product import does not exist or is no longer retained.
+     *
+     * @param ex the {@link ProductImportNotFoundException} thrown when the import is missing.
+     * @return a {@link ResponseEntity} with HTTP 404 (Not Found)
+     *         and an error message describing the missing resource.
+     */
+    @ExceptionHandler(ProductImportNotFoundException.class)
+    public ResponseEntity<ResponseErrorDTO> onImportNotFound(ProductImportNotFoundException ex) {
+        countException(ex, HttpStatus.NOT_FOUND);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ResponseErrorDTO("Import not found", ex.getMessage(), null));
+    }
+
     /**
      * Handles invalid input data that violates business rules or persistence constraints.
      *
@@ -112,6 +203,7 @@ public class ExceptionController {
      */
     @ExceptionHandler(InvalidDataEntryException.class)
     public ResponseEntity<ResponseErrorDTO> onInvalidData(InvalidDataEntryException ex) {
+        countException(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(new ResponseErrorDTO("Invalid input data", ex.getMessage(), null));
     }
@@ -127,8 +219,16 @@ public class ExceptionController {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResponseErrorDTO> onGeneral(Exception ex) {
+        countException(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ResponseErrorDTO("Unexpected error", ex.getMessage(), null));
     }
 
+    private void countException(Exception ex, HttpStatus status) {
+        meterRegistry.counter("products.exceptions",
+                        "exception", ex.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+    }
+
 }
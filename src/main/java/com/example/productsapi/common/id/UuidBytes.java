@@ -0,0 +1,30 @@
+package com.example.productsapi.common.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversions between {@link UUID} and the 16-byte big-endian form stored in {@code BINARY(16)} columns.
+ * <p>
+ * Uses the same byte order as Hibernate and MySQL's {@code UUID_TO_BIN} without the swap flag,
+ * so values written by any of them can be read by the others.
+ * </p>
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.productsapi.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the Unix epoch timestamp in milliseconds, followed by
+ * the version, a 12-bit counter, the variant and 62 random bits. Identifiers therefore sort
+ * (as unsigned bytes, e.g. in a {@code BINARY(16)} column) in creation order, so new rows are
+ * appended at the end of a clustered index instead of being scattered across it.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>The counter is re-seeded randomly every millisecond and incremented for every UUID
+ *   created within the same millisecond, keeping them monotonic within this JVM.</li>
+ *   <li>If the counter overflows, the timestamp is advanced by one millisecond.</li>
+ * </ul>
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MASK = (1 << COUNTER_BITS) - 1;
+
+    private static long lastTimestamp = -1L;
+    private static int counter;
+
+    private UuidV7() {
+    }
+
+    /**
+     * Creates a new time-ordered UUID.
+     *
+     * @return a version 7 {@link UUID}.
+     */
+    public static UUID randomUuid() {
+        long timestamp;
+        int sequence;
+        synchronized (UuidV7.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                counter = RANDOM.nextInt(1 << (COUNTER_BITS - 1));
+            } else if (++counter > COUNTER_MASK) {
+                lastTimestamp++;
+                counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extracts the creation time of a version 7 UUID.
+     *
+     * @param uuid a version 7 {@link UUID}.
+     * @return the Unix epoch timestamp, in milliseconds, held by its 48 most significant bits.
+     * @throws IllegalArgumentException if {@code uuid} is not a version 7 UUID.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7)
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables Spring's annotation-driven caching for the application.
+ * <p>
+ * The cache provider (Caffeine), the cache names and their size/TTL bounds are
+ * configured in {@code application.properties} through the {@code spring.cache.*} keys.
+ * Hit, miss, put and eviction counters are published by Spring Boot Actuator under
+ * the {@code cache.*} metrics for every configured cache.
+ * </p>
+ *
+ * <p><b>Design note:</b> The caching advice is given the highest precedence so it wraps
+ * the transactional advice. A cache hit therefore returns before any transaction is
+ * opened, and never borrows a connection from the pool.</p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Name of the cache holding {@code ProductDTOResponse} instances keyed by product UUID.
+     */
+    public static final String PRODUCTS_CACHE = "products";
+
+}
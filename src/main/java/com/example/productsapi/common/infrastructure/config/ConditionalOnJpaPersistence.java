@@ -0,0 +1,22 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the annotated component only when the blocking JPA persistence stack is selected,
+ * i.e. {@code products.persistence.type=jpa} or the property is absent (default).
+ *
+ * @see ConditionalOnR2dbcPersistence
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnProperty(name = "products.persistence.type", havingValue = "jpa", matchIfMissing = true)
+public @interface ConditionalOnJpaPersistence {
+}
@@ -0,0 +1,22 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the annotated component only when the reactive R2DBC persistence stack is selected
+ * with {@code products.persistence.type=r2dbc} (see the {@code r2dbc} Spring profile).
+ *
+ * @see ConditionalOnJpaPersistence
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnProperty(name = "products.persistence.type", havingValue = "r2dbc")
+public @interface ConditionalOnR2dbcPersistence {
+}
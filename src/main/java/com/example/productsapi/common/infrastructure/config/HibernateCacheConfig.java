@@ -0,0 +1,83 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+/**
+ * Configures the regions of Hibernate's second-level cache, backed by Caffeine through JCache.
+ * <p>
+ * The cache is switched on, and the query cache with it, by the {@code spring.jpa.properties.hibernate.cache.*}
+ * keys in {@code application.properties}. This class creates the regions, bounding those that grow with the data,
+ * and hands their {@link CacheManager} to Hibernate:
+ * </p>
+ * <ul>
+ *   <li>{@value #PRODUCT_ENTITY_REGION}: the state of {@code ProductEntity} instances, keyed by ID
+ *       ({@code products.hibernate-cache.entity.max-size}).</li>
+ *   <li>The default query results region: the rows returned by cacheable queries, such as the first
+ *       pages of the product listing ({@code products.hibernate-cache.query.max-size}).</li>
+ *   <li>The update timestamps region, unbounded: it holds one entry per table, and evicting
+ *       one would make every cached query on that table unusable.</li>
+ * </ul>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>The {@link CacheManager} is owned by the application context rather than looked up from the
+ *       JCache provider, whose managers are shared JVM-wide; two contexts (e.g. in tests) would otherwise
+ *       share, and serve each other's, cached rows.</li>
+ *   <li>Hibernate statistics (hit, miss and put counts per region) are published by Spring Boot Actuator
+ *       under the {@code hibernate.*} metrics when {@code hibernate.generate_statistics} is enabled.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnJpaPersistence
+public class HibernateCacheConfig {
+
+    /**
+     * Region holding the state of {@code ProductEntity} instances.
+     */
+    public static final String PRODUCT_ENTITY_REGION = "products.entity";
+
+    @Value("${products.hibernate-cache.entity.max-size:10000}")
+    private long entityMaxSize;
+
+    @Value("${products.hibernate-cache.query.max-size:100}")
+    private long queryMaxSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = new CacheManagerImpl(provider, false,
+                URI.create("products-hibernate-cache"), provider.getDefaultClassLoader(), new Properties());
+
+        cacheManager.createCache(PRODUCT_ENTITY_REGION, boundedRegion(entityMaxSize));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                boundedRegion(queryMaxSize));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> boundedRegion(long maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        return configuration;
+    }
+
+}
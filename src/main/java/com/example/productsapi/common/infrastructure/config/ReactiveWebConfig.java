@@ -0,0 +1,58 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * WebFlux configuration used when the application runs as a reactive web application.
+ * <p>
+ * Spring Data only auto-registers its {@code Pageable}/{@code Sort} argument resolvers for
+ * Spring MVC, so they are registered here for the reactive controllers.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Only active when {@code spring.main.web-application-type=reactive}
+ *       (see the {@code r2dbc} Spring profile).</li>
+ *   <li>Tomcat is on the classpath for the servlet stack, and Spring Boot prefers it over Netty for
+ *       reactive applications too, serving WebFlux through its servlet adapter. The Netty server
+ *       factory is therefore declared explicitly, so the reactive stack runs on its event loop.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    /**
+     * Runs the reactive application on Reactor Netty rather than on Tomcat.
+     *
+     * @param routeProviders     the additional Netty routes, if any.
+     * @param serverCustomizers  the Netty server customizers, if any.
+     * @return the Netty server factory, further customized from the {@code server.*} properties.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<NettyRouteProvider> routeProviders,
+                                                                       ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        NettyReactiveWebServerFactory serverFactory = new NettyReactiveWebServerFactory();
+        routeProviders.orderedStream().forEach(serverFactory::addRouteProviders);
+        serverFactory.getServerCustomizers().addAll(serverCustomizers.orderedStream().toList());
+        return serverFactory;
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactiveSortHandlerMethodArgumentResolver sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+        configurer.addCustomResolver(sortResolver);
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver(sortResolver));
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import com.example.productsapi.common.infrastructure.database.routing.ReadWriteRoutingDataSource;
+import com.example.productsapi.common.infrastructure.database.routing.ReadYourWritesInterceptor;
+import com.example.productsapi.common.infrastructure.database.routing.ReplicaSelection;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Routes read-only transactions to MySQL read replicas, when {@code products.datasource.replicas.urls} is set.
+ * <p>
+ * Replaces the data source auto-configured by Spring Boot with:
+ * </p>
+ * <ul>
+ *   <li>the primary pool, configured as before by {@code spring.datasource.*} and {@code spring.datasource.hikari.*};</li>
+ *   <li>one pool per replica URL, with the same Hikari settings and the credentials of
+ *       {@code products.datasource.replicas.username/password} (the primary's by default);</li>
+ *   <li>a {@link ReadWriteRoutingDataSource} choosing between them per transaction
+ *       ({@code products.datasource.replicas.selection}), behind a
+ *       {@link LazyConnectionDataSourceProxy} that JPA and JDBC use.</li>
+ * </ul>
+ *
+ * <p><b>Consistency:</b> replicas apply the primary's changes asynchronously. A client that has written
+ * within {@code products.datasource.replicas.lag} reads from the primary (see {@link ReadYourWritesInterceptor});
+ * other clients may briefly read data older than their last request to another instance.</p>
+ *
+ * <p><b>Metrics:</b> every pool publishes the {@code hikaricp.*} meters, tagged with its pool name
+ * ({@code replica-1}, {@code replica-2}, ...), so the share of traffic each replica receives can be compared.</p>
+ */
+@Configuration
+@ConditionalOnJpaPersistence
+@ConditionalOnProperty("products.datasource.replicas.urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${products.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${products.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${products.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${products.datasource.replicas.selection:round-robin}")
+    private ReplicaSelection replicaSelection;
+
+    /**
+     * The primary pool, built as Spring Boot builds its default one.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName()))
+            dataSource.setPoolName(properties.getName());
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (StringUtils.hasText(url))
+                replicas.add(replica(primaryDataSource, "replica-" + (replicas.size() + 1), url.trim(),
+                        meterRegistry.getIfAvailable()));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, replicaSelection);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private HikariDataSource replica(HikariDataSource primary, String poolName, String url, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(replicaUsername);
+        config.setPassword(replicaPassword);
+        config.setReadOnly(true);
+        config.setMetricsTrackerFactory(meterRegistry == null ? null : new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Registers the read-your-writes interceptor on the Spring MVC stack.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ReadYourWritesWebMvcConfig implements WebMvcConfigurer {
+
+        private final Duration replicaLag;
+        private final Set<String> readOnlyPaths;
+
+        ReadYourWritesWebMvcConfig(@Value("${products.datasource.replicas.lag:2s}") Duration replicaLag,
+                                   @Value("${products.datasource.replicas.read-only-paths:}") Set<String> readOnlyPaths) {
+            this.replicaLag = replicaLag;
+            this.readOnlyPaths = readOnlyPaths;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(replicaLag, readOnlyPaths));
+        }
+
+    }
+
+}
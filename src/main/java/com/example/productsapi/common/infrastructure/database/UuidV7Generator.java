@@ -0,0 +1,30 @@
+package com.example.productsapi.common.infrastructure.database;
+
+import com.example.productsapi.common.id.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate identifier generator producing time-ordered UUIDs via {@link UuidV7}.
+ * <p>
+ * Applied to entity identifiers through the {@link GeneratedUuidV7} annotation.
+ * The value is generated in memory before the {@code INSERT}, so JDBC batching is preserved.
+ * </p>
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return UuidV7.randomUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.example.productsapi.common.infrastructure.database.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} that sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * A connection is routed to a replica when it is requested inside a transaction declared with
+ * {@code @Transactional(readOnly = true)} and the current thread is not pinned to the primary
+ * (see {@link #pinToPrimary()}). Writes, read-write transactions and non-transactional access always
+ * use the primary.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ *       the transaction manager asks for a connection while beginning the transaction, before it marks
+ *       the transaction as read-only, so the physical connection must only be fetched on first use.</li>
+ *   <li>Replicas are owned, and closed, by this data source; the primary is managed by the application context.</li>
+ * </ul>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final List<HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReplicaSelection selection;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, ReplicaSelection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = replicas.stream().map(HikariDataSource::getPoolName).toList();
+        this.selection = selection;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++)
+            targets.put(replicaKeys.get(i), replicas.get(i));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Routes the read-only transactions of the current thread to the primary until {@link #unpin()}
+     * is called, e.g. because the client has just written and the replicas may not have caught up yet.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Lets the read-only transactions of the current thread go to the replicas again.
+     */
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * @return whether the read-only transactions of the current thread are routed to the primary.
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Runs a read on the primary, whatever the pinning of the current thread.
+     * <p>
+     * Meant for reads whose result outlives the request, such as cache fills: read from a lagging
+     * replica, they would keep serving outdated data long after the replica has caught up. Must be
+     * called before the surrounding transaction first uses its connection.
+     * </p>
+     *
+     * @param read the read to run.
+     * @return its result.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        boolean pinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return read.get();
+        } finally {
+            if (!pinned)
+                unpin();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || isPinnedToPrimary())
+            return PRIMARY;
+
+        return replicaKeys.get(selection == ReplicaSelection.LEAST_CONNECTIONS ? leastBusyReplica() : nextReplica());
+    }
+
+    private int nextReplica() {
+        return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    /**
+     * Finds the replica with the fewest active and awaited connections. The scan starts at a rotating
+     * position, so that ties (e.g. when idle) are spread over the replicas instead of all going to the first.
+     */
+    private int leastBusyReplica() {
+        int start = nextReplica();
+        int best = start;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            int load = load(replicas.get(replica));
+            if (load < bestLoad) {
+                best = replica;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private static int load(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+}
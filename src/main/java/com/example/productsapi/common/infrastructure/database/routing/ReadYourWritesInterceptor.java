@@ -0,0 +1,77 @@
+package com.example.productsapi.common.infrastructure.database.routing;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Lets a client read its own writes while replicas lag behind the primary.
+ * <p>
+ * Every request that may write ({@code POST}, {@code PUT}, {@code PATCH}, {@code DELETE}, except on the
+ * configured read-only paths, such as a lookup taking its IDs in a {@code POST} body) sets the
+ * {@value #COOKIE_NAME} cookie to the current time, for as long as the configured replica lag. Requests
+ * carrying a cookie younger than the lag are pinned to the primary
+ * (see {@link ReadWriteRoutingDataSource#pinToPrimary()}); other clients keep reading from the replicas.
+ * </p>
+ *
+ * <p><b>Design note:</b> The cookie is set before the handler runs, so it is also set on failed
+ * writes. The only cost is that such a client reads from the primary for the duration of the lag.</p>
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    static final String COOKIE_NAME = "products-last-write";
+
+    private final Duration replicaLag;
+    private final Set<String> readOnlyPaths;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis()));
+            cookie.setMaxAge((int) Math.max(1, (replicaLag.toMillis() + 999) / 1000));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        } else if (wroteRecently(request)) {
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadWriteRoutingDataSource.unpin();
+    }
+
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null)
+            return false;
+
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName()))
+                continue;
+            try {
+                return System.currentTimeMillis() - Long.parseLong(cookie.getValue()) < replicaLag.toMillis();
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "POST", "PUT", "PATCH", "DELETE" ->
+                    !readOnlyPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+            default -> false;
+        };
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.productsapi.common.infrastructure.database.routing;
+
+/**
+ * How {@link ReadWriteRoutingDataSource} picks the replica serving a read-only transaction.
+ * Bound from {@code products.datasource.replicas.selection} ({@code round-robin} or {@code least-connections}).
+ */
+public enum ReplicaSelection {
+
+    /**
+     * Replicas take turns, regardless of their load.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The replica with the fewest connections in use or awaited is chosen, so a replica slowed down
+     * (e.g. by a long query or while catching up) receives less traffic.
+     */
+    LEAST_CONNECTIONS
+
+}
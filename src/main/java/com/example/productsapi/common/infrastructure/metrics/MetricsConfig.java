@@ -0,0 +1,65 @@
+package com.example.productsapi.common.infrastructure.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application-specific Micrometer instrumentation, exported on {@code /actuator/prometheus}.
+ * <p>
+ * Complements the meters Spring Boot already publishes ({@code http.server.requests},
+ * {@code hikaricp.*}, {@code cache.*}, JVM) with:
+ * </p>
+ * <ul>
+ *   <li>{@code products.service} / {@code products.repository} timers for every method of the classes
+ *       annotated with {@link io.micrometer.core.annotation.Timed}, through {@link TimedAspect}.</li>
+ *   <li>{@code products.http.sql.statements}, the number of SQL statements Hibernate executed on the
+ *       request thread of each HTTP request.</li>
+ *   <li>{@code products.exceptions}, recorded by the global exception handler.</li>
+ * </ul>
+ *
+ * <p><b>Design note:</b> Histogram buckets are enabled per meter in {@code application.properties}
+ * ({@code management.metrics.distribution.percentiles-histogram.*}), so percentiles are aggregated by
+ * Prometheus instead of being computed in the application.</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties ->
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Registers the SQL statement counting interceptor on the Spring MVC stack.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class SqlStatementsWebMvcConfig implements WebMvcConfigurer {
+
+        private final MeterRegistry meterRegistry;
+
+        SqlStatementsWebMvcConfig(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new SqlStatementsPerRequestInterceptor(meterRegistry));
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.example.productsapi.common.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Registered as Hibernate's {@link StatementInspector}, which is invoked once for every
+ * statement before it is prepared. The count is only kept between {@link #start()} and
+ * {@link #stop()}, so statements run outside of an HTTP request (e.g. imports) are ignored.
+ * </p>
+ *
+ * <p><b>Scope:</b> Only statements prepared by Hibernate on the thread that called {@link #start()}
+ * are counted. Plain JDBC access ({@code JdbcTemplate}, such as the export stream of
+ * {@code ProductRepository.forEach}) bypasses the inspector, and work handed to other threads
+ * (async request processing, {@code StreamingResponseBody}, executors) does not see the
+ * thread-local counter.</p>
+ *
+ * <p><b>Design note:</b> The SQL itself is returned unchanged; the only per-statement cost is a
+ * thread-local lookup and an increment.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Starts counting statements on the current thread.
+     */
+    public static void start() {
+        STATEMENTS.set(new long[1]);
+    }
+
+    /**
+     * Stops counting statements on the current thread.
+     *
+     * @return the number of statements prepared since {@link #start()}, or {@code -1} if counting was not started.
+     */
+    public static long stop() {
+        long[] statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? -1 : statements[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] statements = STATEMENTS.get();
+        if (statements != null)
+            statements[0]++;
+        return sql;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.productsapi.common.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each HTTP request executed through Hibernate.
+ * <p>
+ * Publishes the {@code products.http.sql.statements} distribution summary, tagged with the
+ * HTTP method and the URI template of the handler (as {@code http.server.requests} does),
+ * so N+1 query patterns show up as a high count for a given endpoint.
+ * </p>
+ *
+ * <p><b>Limitation:</b> The count only covers Hibernate statements executed on the request thread,
+ * see {@link SqlStatementCounter}. {@code GET /api/v1/products/export} reads through
+ * {@code JdbcTemplate} on an async thread, so its rows are not counted.</p>
+ *
+ * @see SqlStatementCounter
+ */
+@RequiredArgsConstructor
+public class SqlStatementsPerRequestInterceptor implements HandlerInterceptor {
+
+    static final String METRIC_NAME = "products.http.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long statements = SqlStatementCounter.stop();
+        if (statements < 0)
+            return;
+
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.productsapi.product.application;
+
+import com.example.productsapi.product.application.dto.response.ProductImportDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Defines the use cases for importing products in bulk from NDJSON or CSV files.
+ * <p>
+ * Files are read incrementally and every row goes through the same validation as the
+ * single and batch create endpoints. Invalid rows are reported and skipped; they never
+ * stop the rest of the file from being imported.
+ * </p>
+ *
+ * <p><b>Implemented by:</b> {@link com.example.productsapi.product.application.ProductImportService}</p>
+ */
+public interface IProductImportService {
+
+    /**
+     * Starts importing a file in the background.
+     *
+     * @param file the file to import; it is deleted once the import ends.
+     * @param fileName the original name of the file, reported in the import status.
+     * @param format the format of the file.
+     * @return the initial status of the import, whose {@code id} can be used to follow its progress.
+     */
+    ProductImportDTOResponse start(Path file, String fileName, ProductImportFormat format);
+
+    /**
+     * Imports a file in the calling thread and waits for it to end.
+     *
+     * @param file the file to import; it is left untouched.
+     * @param format the format of the file.
+     * @return the final status of the import.
+     */
+    ProductImportDTOResponse run(Path file, ProductImportFormat format);
+
+    /**
+     * Retrieves the current status of an import.
+     *
+     * @param id the identifier returned when the import was started.
+     * @return the progress, throughput and rejected rows of the import.
+     *
+     * <p><b>Throws:</b> {@link com.example.productsapi.product.application.exception.ProductImportNotFoundException}
+     * if no import exists with the given ID.</p>
+     */
+    ProductImportDTOResponse getById(UUID id);
+
+}
@@ -1,12 +1,22 @@
 package com.example.productsapi.product.application;
 
 import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
+import com.example.productsapi.product.application.dto.request.StockAdjustmentDTORequest;
 import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.BatchProductDTOResponse;
 import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductLookupDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductSliceDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductStockDTOResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Application service interface that defines the contract for managing {@code Product} entities.
@@ -34,15 +44,70 @@ import java.util.UUID;
 public interface IProductService {
 
     /**
-     * Retrieves a paginated list of all existing products.
+     * Retrieves a paginated list of the existing products matching a filter.
      *
+     * @param filter the optional stock, price and margin ranges to apply.
      * @param pageable pagination and sorting information, provided automatically by Spring Data.
+     * @param exactCount whether the total must be counted, rather than taken from a cache that may lag
+     *                   behind recent changes.
      * @return a {@link Page} of {@link ProductDTOResponse} objects representing the products.
      *
      * <p><b>Throws:</b> {@link com.example.productsapi.product.application.exception.EmptyProductsListException}
-     * if no products are found.</p>
+     * if no products are found, or {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if a range of the filter is inverted.</p>
      */
-    Page<ProductDTOResponse> getAll(Pageable pageable);
+    Page<ProductDTOResponse> getAll(ProductFilterDTORequest filter, Pageable pageable, boolean exactCount);
+
+    /**
+     * Retrieves a paginated list of the existing products matching a filter, with only some of their properties.
+     *
+     * @param filter the optional stock, price and margin ranges to apply.
+     * @param fields the names of the {@link ProductDTOResponse} properties to return.
+     * @param pageable pagination and sorting information, provided automatically by Spring Data.
+     * @param exactCount whether the total must be counted, as in {@link #getAll(ProductFilterDTORequest, Pageable, boolean)}.
+     * @return a {@link Page} of maps holding only the requested properties of each product.
+     *
+     * <p><b>Throws:</b> the same exceptions as {@link #getAll(ProductFilterDTORequest, Pageable, boolean)}, and
+     * {@link com.example.productsapi.common.exception.InvalidDataEntryException} if a field is unknown.</p>
+     */
+    Page<Map<String, Object>> getAllProjected(ProductFilterDTORequest filter,
+                                              List<String> fields,
+                                              Pageable pageable,
+                                              boolean exactCount);
+
+    /**
+     * Retrieves a slice of the products matching a filter, positioned after an opaque cursor (keyset pagination).
+     *
+     * @param filter the optional stock, price and margin ranges to apply; must be the same for every slice.
+     * @param after the cursor returned as {@code nextCursor} by the previous slice,
+     *              or {@code null}/blank to start from the first product.
+     * @param sort the sort order; must match the sort the cursor was produced with.
+     * @param size the maximum number of products in the slice.
+     * @return a {@link ProductSliceDTOResponse} without total counts.
+     *
+     * <p><b>Throws:</b> {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if the cursor is malformed, the sort uses an unsupported property or a range of the filter is inverted.</p>
+     */
+    ProductSliceDTOResponse getAllAfter(ProductFilterDTORequest filter, String after, Sort sort, int size);
+
+    /**
+     * Retrieves the products matching a free-text query, best matches first.
+     *
+     * @param query the text to search for in the name and description of the products.
+     * @param pageable the page to return; its sort is ignored, as matches are ordered by relevance.
+     * @return a {@link Page} of {@link ProductDTOResponse} objects, possibly empty.
+     */
+    Page<ProductDTOResponse> search(String query, Pageable pageable);
+
+    /**
+     * Streams every existing product, in ID order, to the given action.
+     *
+     * @param action the callback receiving each product as a {@link ProductDTOResponse}.
+     *
+     * <p>Products are handed over one by one as they are read, without materializing the
+     * catalog in memory. An empty catalog simply results in no invocation of {@code action}.</p>
+     */
+    void exportAll(Consumer<ProductDTOResponse> action);
 
     /**
      * Retrieves a product by its unique identifier.
@@ -55,6 +120,30 @@ public interface IProductService {
      */
     ProductDTOResponse getById(UUID id);
 
+    /**
+     * Retrieves some of the properties of a product by its unique identifier.
+     *
+     * @param id the unique {@link UUID} of the product to retrieve.
+     * @param fields the names of the {@link ProductDTOResponse} properties to return.
+     * @return a map holding only the requested properties of the product.
+     *
+     * <p><b>Throws:</b> {@link com.example.productsapi.product.application.exception.ProductNotFoundException}
+     * if the product does not exist, or {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if a field is unknown.</p>
+     */
+    Map<String, Object> getByIdProjected(UUID id, List<String> fields);
+
+    /**
+     * Retrieves many products by their unique identifiers in a single call.
+     *
+     * @param ids the UUIDs to resolve, possibly repeated.
+     * @return one item per requested UUID, in request order, marking the products that do not exist.
+     *
+     * <p><b>Throws:</b> {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if a UUID is missing or too many are requested.</p>
+     */
+    ProductLookupDTOResponse lookup(List<UUID> ids);
+
     /**
      * Creates a new product using the provided request data.
      *
@@ -66,31 +155,92 @@ public interface IProductService {
      */
     ProductDTOResponse create(CreateProductDTORequest createProductDTORequest);
 
+    /**
+     * Creates many products at once, persisting them in chunked JDBC batches.
+     *
+     * @param createProductDTORequests the DTOs containing the details of each product to create.
+     * @return a {@link BatchProductDTOResponse} with the outcome of every item, in request order.
+     *
+     * <p>Invalid items are reported as failed without aborting the rest of the batch.
+     * Each chunk is committed in its own transaction, so a database error only fails
+     * the items of the chunk it occurred in.</p>
+     */
+    BatchProductDTOResponse createAll(List<CreateProductDTORequest> createProductDTORequests);
+
+    /**
+     * Creates or updates many products at once, persisting them in chunked JDBC batches.
+     *
+     * @param updateProductDTORequests the DTOs of the products to upsert. Items without an
+     *                                 {@code id} are created; items with an {@code id} replace
+     *                                 the values of that existing product.
+     * @return a {@link BatchProductDTOResponse} with the outcome of every item, in request order.
+     *
+     * <p>Items referencing an unknown {@code id}, or violating business rules, are reported
+     * as failed without aborting the rest of the batch.</p>
+     */
+    BatchProductDTOResponse upsertAll(List<UpdateProductDTORequest> updateProductDTORequests);
+
     /**
      * Updates an existing product identified by its unique ID.
      *
      * @param id the {@link UUID} of the product to update.
      * @param updateProductDTORequest the DTO containing the updated product data.
-     * @return a {@link ProductDTOResponse} representing the updated product.
+     * @param expectedVersion the version the product must still have, or {@code null} to update any version.
+     * @return a {@link ProductDTOResponse} representing the updated product, with its new version.
      *
      * <p><b>Throws:</b></p>
      * <ul>
      *   <li>{@link com.example.productsapi.product.application.exception.ProductNotFoundException}
      *   if the product does not exist.</li>
+     *   <li>{@link com.example.productsapi.product.application.exception.ProductVersionMismatchException}
+     *   if the product no longer has the expected version.</li>
      *   <li>{@link com.example.productsapi.common.exception.InvalidDataEntryException}
      *   if the updated data violates business constraints.</li>
      * </ul>
      */
-    ProductDTOResponse update(UUID id, UpdateProductDTORequest updateProductDTORequest);
+    ProductDTOResponse update(UUID id, UpdateProductDTORequest updateProductDTORequest, Long expectedVersion);
+
+    /**
+     * Atomically adds a delta to the stock of a product.
+     *
+     * @param id the {@link UUID} of the product to adjust.
+     * @param stockAdjustmentDTORequest the DTO holding the number of units to add (negative to remove).
+     * @return a {@link ProductStockDTOResponse} with the stock after the adjustment.
+     *
+     * <p><b>Throws:</b></p>
+     * <ul>
+     *   <li>{@link com.example.productsapi.product.application.exception.ProductNotFoundException}
+     *   if the product does not exist.</li>
+     *   <li>{@link com.example.productsapi.product.application.exception.InsufficientStockException}
+     *   if the adjustment would make the stock negative.</li>
+     * </ul>
+     */
+    ProductStockDTOResponse adjustStock(UUID id, StockAdjustmentDTORequest stockAdjustmentDTORequest);
+
+    /**
+     * Atomically adjusts the stock of several products, all or nothing (e.g. the lines of an order).
+     *
+     * @param stockAdjustmentDTORequests the adjustments to apply; each one must carry the product {@code id}.
+     *                                   Several adjustments of the same product are added together.
+     * @return the stock of every adjusted product after the adjustments, ordered by product ID.
+     *
+     * <p><b>Throws:</b> the same exceptions as {@link #adjustStock(UUID, StockAdjustmentDTORequest)},
+     * plus {@link com.example.productsapi.common.exception.InvalidDataEntryException} if an item is invalid.
+     * Either way, none of the adjustments is applied.</p>
+     */
+    List<ProductStockDTOResponse> adjustStocks(List<StockAdjustmentDTORequest> stockAdjustmentDTORequests);
 
     /**
      * Deletes a product by its unique identifier.
      *
      * @param id the {@link UUID} of the product to delete.
+     * @param expectedVersion the version the product must still have, or {@code null} to delete any version.
      *
      * <p><b>Throws:</b> {@link com.example.productsapi.product.application.exception.ProductNotFoundException}
-     * if the product does not exist.</p>
+     * if the product does not exist, or
+     * {@link com.example.productsapi.product.application.exception.ProductVersionMismatchException}
+     * if it no longer has the expected version.</p>
      */
-    void delete(UUID id);
+    void delete(UUID id, Long expectedVersion);
 
 }
@@ -0,0 +1,81 @@
+package com.example.productsapi.product.application;
+
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link IProductService}.
+ * <p>
+ * Exposes the same product use cases with the same business rules and exceptions, but
+ * returns {@link Mono} publishers so that no thread is blocked while waiting for the database.
+ * Errors are signalled through the publishers instead of being thrown.
+ * </p>
+ *
+ * <p><b>Implemented by:</b> {@link com.example.productsapi.product.application.ReactiveProductService}</p>
+ */
+public interface IReactiveProductService {
+
+    /**
+     * Retrieves a paginated list of all existing products.
+     *
+     * @param pageable pagination and sorting information.
+     * @return a {@link Mono} emitting a {@link Page} of {@link ProductDTOResponse}.
+     *
+     * <p><b>Signals:</b> {@link com.example.productsapi.product.application.exception.EmptyProductsListException}
+     * if no products are found.</p>
+     */
+    Mono<Page<ProductDTOResponse>> getAll(Pageable pageable);
+
+    /**
+     * Retrieves a product by its unique identifier.
+     *
+     * @param id the unique {@link UUID} of the product to retrieve.
+     * @return a {@link Mono} emitting the found product.
+     *
+     * <p><b>Signals:</b> {@link com.example.productsapi.product.application.exception.ProductNotFoundException}
+     * if the product does not exist.</p>
+     */
+    Mono<ProductDTOResponse> getById(UUID id);
+
+    /**
+     * Creates a new product using the provided request data.
+     *
+     * @param createProductDTORequest the DTO containing the product’s details.
+     * @return a {@link Mono} emitting the created product.
+     *
+     * <p><b>Signals:</b> {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if input data violates business or persistence rules.</p>
+     */
+    Mono<ProductDTOResponse> create(CreateProductDTORequest createProductDTORequest);
+
+    /**
+     * Updates an existing product identified by its unique ID.
+     *
+     * @param id the {@link UUID} of the product to update.
+     * @param updateProductDTORequest the DTO containing the updated product data.
+     * @return a {@link Mono} emitting the updated product.
+     *
+     * <p><b>Signals:</b> {@link com.example.productsapi.product.application.exception.ProductNotFoundException}
+     * if the product does not exist, or {@link com.example.productsapi.common.exception.InvalidDataEntryException}
+     * if the updated data violates business constraints.</p>
+     */
+    Mono<ProductDTOResponse> update(UUID id, UpdateProductDTORequest updateProductDTORequest);
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param id the {@link UUID} of the product to delete.
+     * @return a {@link Mono} completing once the product is deleted.
+     *
+     * <p><b>Signals:</b> {@link com.example.productsapi.product.application.exception.ProductNotFoundException}
+     * if the product does not exist.</p>
+     */
+    Mono<Void> delete(UUID id);
+
+}
@@ -0,0 +1,370 @@
+package com.example.productsapi.product.application;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.application.dto.mapper.IProductDTOMapper;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductImportDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import com.example.productsapi.product.application.exception.ProductImportNotFoundException;
+import com.example.productsapi.product.application.imports.ProductImportJob;
+import com.example.productsapi.product.application.imports.ProductRecordParser;
+import com.example.productsapi.product.application.validation.ProductValidator;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.event.ProductSavedEvent;
+import com.example.productsapi.product.domain.repository.IProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application service that imports products from NDJSON or CSV files.
+ * <p>
+ * Each import runs as a pipeline of three stages connected by bounded queues
+ * ({@code products.import.queue-capacity}):
+ * </p>
+ * <ol>
+ *   <li><b>Parse</b> – reads the file line by line and converts each line into a {@link CreateProductDTORequest}.</li>
+ *   <li><b>Validate</b> – applies the Bean Validation constraints and {@link ProductValidator} rules.</li>
+ *   <li><b>Persist</b> – saves valid products in chunks of {@code products.batch.chunk-size},
+ *       each in its own transaction and sent as JDBC batches.</li>
+ * </ol>
+ * <p>
+ * A full queue blocks the stage feeding it, so a slow database slows down parsing instead of
+ * letting rows pile up in memory. Memory use therefore depends on the queue capacity and chunk
+ * size, not on the size of the file.
+ * </p>
+ *
+ * <p><b>Error handling:</b> Rows that cannot be parsed, fail validation, or belong to a chunk rejected
+ * by the database are reported with their line number and skipped. Only I/O errors fail the import.</p>
+ *
+ * <p><b>Design note:</b> Import progress is kept in memory (the last {@code products.import.retained-imports}
+ * imports) and is lost on restart. Already committed chunks are not rolled back if an import fails.</p>
+ */
+@Service
+@ConditionalOnJpaPersistence
+@RequiredArgsConstructor
+public class ProductImportService implements IProductImportService {
+
+    /**
+     * Byte order mark some editors write at the start of UTF-8 files; not part of the first line.
+     */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final IProductRepository productRepository;
+    private final IProductDTOMapper productDTOMapper;
+    private final ProductValidator productValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Runs the import coordinators and their stages, one thread each.
+     */
+    private final SimpleAsyncTaskExecutor importExecutor = new SimpleAsyncTaskExecutor("product-import-");
+
+    @Value("${products.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${products.import.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${products.import.max-reported-rejections:1000}")
+    private int maxReportedRejections;
+
+    @Value("${products.import.retained-imports:100}")
+    private int retainedImports;
+
+    private Cache<UUID, ProductImportJob> imports;
+
+    @PostConstruct
+    void initImports() {
+        imports = Caffeine.newBuilder()
+                .maximumSize(retainedImports)
+                .build();
+    }
+
+    /**
+     * Starts importing a file on a background thread.
+     *
+     * @param file the file to import; deleted once the import ends.
+     * @param fileName the original name of the file.
+     * @param format the format of the file.
+     * @return the initial status of the import.
+     */
+    @Override
+    public ProductImportDTOResponse start(Path file, String fileName, ProductImportFormat format) {
+        ProductImportJob job = register(file, fileName, format);
+        importExecutor.execute(() -> {
+            try {
+                runPipeline(job, file, format);
+            } finally {
+                deleteQuietly(file);
+            }
+        });
+        return job.toDTOResponse();
+    }
+
+    /**
+     * Imports a file and waits for the import to end.
+     *
+     * @param file the file to import.
+     * @param format the format of the file.
+     * @return the final status of the import.
+     */
+    @Override
+    public ProductImportDTOResponse run(Path file, ProductImportFormat format) {
+        ProductImportJob job = register(file, file.getFileName().toString(), format);
+        runPipeline(job, file, format);
+        return job.toDTOResponse();
+    }
+
+    /**
+     * Retrieves a snapshot of the progress of an import.
+     *
+     * @param id the UUID of the import.
+     * @return the current status of the import.
+     *
+     * @throws ProductImportNotFoundException if the import does not exist or is no longer retained.
+     */
+    @Override
+    public ProductImportDTOResponse getById(UUID id) {
+        ProductImportJob job = imports.getIfPresent(id);
+        if (job == null)
+            throw new ProductImportNotFoundException();
+        return job.toDTOResponse();
+    }
+
+    private ProductImportJob register(Path file, String fileName, ProductImportFormat format) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new InvalidDataEntryException("Import file is not readable");
+        }
+
+        ProductImportJob job = new ProductImportJob(fileName, format, size, maxReportedRejections);
+        imports.put(job.getId(), job);
+        return job;
+    }
+
+    private void runPipeline(ProductImportJob job, Path file, ProductImportFormat format) {
+        BlockingQueue<ImportRow> parsedRows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<ImportRow> validatedRows = new ArrayBlockingQueue<>(queueCapacity);
+
+        CompletableFuture<Void> parseStage = CompletableFuture.runAsync(
+                () -> parse(job, file, format, parsedRows), importExecutor);
+        CompletableFuture<Void> validateStage = CompletableFuture.runAsync(
+                () -> validate(job, parsedRows, validatedRows), importExecutor);
+        CompletableFuture<Void> persistStage = CompletableFuture.runAsync(
+                () -> persist(job, validatedRows), importExecutor);
+
+        try {
+            CompletableFuture.allOf(parseStage, validateStage, persistStage).join();
+            job.complete();
+        } catch (CompletionException e) {
+            job.fail(e.getCause().getMessage());
+        }
+    }
+
+    private void parse(ProductImportJob job, Path file, ProductImportFormat format, BlockingQueue<ImportRow> output) {
+        ProductRecordParser parser = new ProductRecordParser(format, objectMapper);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ProgressInputStream(Files.newInputStream(file), job), StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith(BYTE_ORDER_MARK))
+                    line = line.substring(BYTE_ORDER_MARK.length());
+                if (line.isBlank())
+                    continue;
+
+                if (parser.expectsHeader()) {
+                    parser.readHeader(line);
+                    continue;
+                }
+
+                job.rowRead();
+                try {
+                    transfer(new ImportRow(lineNumber, parser.parse(line), null), output, job);
+                } catch (InvalidDataEntryException e) {
+                    job.reject(lineNumber, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            job.fail("Unable to read the import file");
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        } finally {
+            transferEnd(output, job);
+        }
+    }
+
+    private void validate(ProductImportJob job, BlockingQueue<ImportRow> input, BlockingQueue<ImportRow> output) {
+        try {
+            for (ImportRow row = take(input); row != ImportRow.END; row = take(input)) {
+                try {
+                    productValidator.validateRequest(row.request());
+                    Product product = productDTOMapper.toProduct(row.request());
+                    productValidator.validateProductData(product);
+                    transfer(new ImportRow(row.line(), row.request(), product), output, job);
+                } catch (InvalidDataEntryException e) {
+                    job.reject(row.line(), e.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        } finally {
+            transferEnd(output, job);
+        }
+    }
+
+    private void persist(ProductImportJob job, BlockingQueue<ImportRow> input) {
+        List<ImportRow> chunk = new ArrayList<>(batchChunkSize);
+        try {
+            for (ImportRow row = take(input); row != ImportRow.END; row = take(input)) {
+                if (job.isFailed())
+                    return;
+                chunk.add(row);
+                if (chunk.size() == batchChunkSize) {
+                    saveChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty() && !job.isFailed())
+                saveChunk(job, chunk);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        }
+    }
+
+    private void saveChunk(ProductImportJob job, List<ImportRow> chunk) {
+        List<Product> products = chunk.stream()
+                .map(ImportRow::product)
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> productRepository.saveAll(products)
+                    .forEach(savedProduct -> eventPublisher.publishEvent(new ProductSavedEvent(savedProduct, true))));
+            job.rowsImported(products.size());
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            String error = new InvalidDataEntryException().getMessage();
+            chunk.forEach(row -> job.reject(row.line(), error));
+        }
+    }
+
+    /**
+     * Hands a row to the next stage, waiting while its queue is full.
+     * Gives up once the import has failed, as the next stage may no longer be consuming.
+     */
+    private static void transfer(ImportRow row, BlockingQueue<ImportRow> queue, ProductImportJob job) {
+        try {
+            while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                if (job.isFailed())
+                    throw new IllegalStateException("Import failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted");
+        }
+    }
+
+    private static void transferEnd(BlockingQueue<ImportRow> queue, ProductImportJob job) {
+        try {
+            transfer(ImportRow.END, queue, job);
+        } catch (IllegalStateException e) {
+            // The next stage has stopped and does not need the end marker.
+        }
+    }
+
+    private static ImportRow take(BlockingQueue<ImportRow> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted");
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Temporary upload; the operating system will eventually clean it up.
+        }
+    }
+
+    /**
+     * A line of the import file on its way through the pipeline.
+     * {@code product} is only set once the row has been validated.
+     */
+    private record ImportRow(long line, CreateProductDTORequest request, Product product) {
+
+        static final ImportRow END = new ImportRow(-1, null, null);
+
+    }
+
+    /**
+     * Reports the number of bytes read from the import file to its job.
+     */
+    private static class ProgressInputStream extends FilterInputStream {
+
+        private final ProductImportJob job;
+
+        ProgressInputStream(InputStream in, ProductImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0)
+                job.addBytesRead(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0)
+                job.addBytesRead(read);
+            return read;
+        }
+
+    }
+
+}
@@ -1,24 +1,83 @@
 package com.example.productsapi.product.application;
 
 import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.infrastructure.config.CacheConfig;
+import com.example.productsapi.common.infrastructure.database.routing.ReadWriteRoutingDataSource;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.application.count.ProductCountCache;
+import com.example.productsapi.product.application.cursor.ProductCursorCodec;
 import com.example.productsapi.product.application.dto.mapper.IProductDTOMapper;
 import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
+import com.example.productsapi.product.application.dto.request.StockAdjustmentDTORequest;
 import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.BatchItemStatus;
+import com.example.productsapi.product.application.dto.response.BatchProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.BatchProductItemDTOResponse;
 import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductLookupDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductLookupItemDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductSliceDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductStockDTOResponse;
 import com.example.productsapi.product.application.exception.EmptyProductsListException;
+import com.example.productsapi.product.application.exception.InsufficientStockException;
 import com.example.productsapi.product.application.exception.ProductNotFoundException;
+import com.example.productsapi.product.application.exception.ProductVersionMismatchException;
+import com.example.productsapi.product.application.projection.ProductFields;
+import com.example.productsapi.product.application.search.ProductSearchIndex;
+import com.example.productsapi.product.application.search.ProductSearchResult;
+import com.example.productsapi.product.application.validation.ProductValidator;
 import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.ProductFilter;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.event.ProductSavedEvent;
 import com.example.productsapi.product.domain.repository.IProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Application service that implements the product-related use cases.
@@ -29,37 +88,184 @@ import java.util.UUID;
  *
  * <p><b>Transaction management:</b> Annotated with {@link Transactional} at the class level,
  * ensuring all methods run within a transactional context.</p>
+ *
+ * <p><b>Metrics:</b> Every method is timed as {@code products.service}, tagged with the method name
+ * and the exception thrown, if any. Cache hits are served before the timer is reached.</p>
  */
 @Service
+@ConditionalOnJpaPersistence
+@Timed(value = "products.service", description = "Latency of product service methods")
 @Transactional
 @RequiredArgsConstructor
 public class ProductService implements IProductService {
 
     private final IProductRepository productRepository;
     private final IProductDTOMapper productDTOMapper;
+    private final ProductValidator productValidator;
+    private final ProductCursorCodec productCursorCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCountCache productCountCache;
+
+    /**
+     * Maximum number of items persisted per transaction by the batch operations.
+     */
+    @Value("${products.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    /**
+     * Maximum number of UUIDs accepted by a single lookup.
+     */
+    @Value("${products.lookup.max-ids:500}")
+    private int lookupMaxIds;
 
     /**
-     * Retrieves a paginated list of products.
+     * Retrieves a paginated list of the products matching a filter.
      *
+     * @param filter the optional stock, price and margin ranges to apply.
      * @param pageable the pagination configuration (page size, number, and sorting).
+     * @param exactCount whether to count the matching products instead of using the cached total.
      * @return a paginated list of products as {@link ProductDTOResponse}.
      *
      * @throws EmptyProductsListException if no products are found in the repository.
+     * @throws InvalidDataEntryException if a range of the filter is inverted.
      *
      * @Transactional(readOnly = true) to avoid locking and improve performance on read-only operations.
+     *
+     * <p>The page is read without a {@code count(*)} query; its total comes from {@link ProductCountCache}
+     * (see {@link #toPage(Slice, ProductFilter, boolean)}).</p>
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<ProductDTOResponse> getAll(Pageable pageable) {
-        Page<Product> productsPage = productRepository.findAll(pageable);
+    public Page<ProductDTOResponse> getAll(ProductFilterDTORequest filter, Pageable pageable, boolean exactCount) {
+        ProductFilter productFilter = toProductFilter(filter);
+
+        Slice<Product> productsSlice = productRepository.findAll(productFilter, pageable);
 
-        if(productsPage.isEmpty())
+        if(productsSlice.isEmpty())
             throw new EmptyProductsListException();
 
-        return productsPage
+        return toPage(productsSlice, productFilter, exactCount)
                 .map(productDTOMapper::toProductDTOResponse);
     }
 
+    /**
+     * Retrieves a paginated list of the products matching a filter, with only some of their properties.
+     *
+     * @param filter the optional stock, price and margin ranges to apply.
+     * @param fields the names of the properties to return.
+     * @param pageable the pagination configuration (page size, number, and sorting).
+     * @param exactCount whether to count the matching products instead of using the cached total.
+     * @return a paginated list of maps holding the requested properties, in the requested order.
+     *
+     * @throws EmptyProductsListException if no products are found in the repository.
+     * @throws InvalidDataEntryException if a range of the filter is inverted, or a field is unknown.
+     *
+     * @Transactional(readOnly = true) to avoid locking and improve performance on read-only operations.
+     *
+     * <p>Only the requested columns are read, and the rows are returned as is, without going through
+     * {@link Product} and {@link ProductDTOResponse}. The total is resolved as in
+     * {@link #getAll(ProductFilterDTORequest, Pageable, boolean)}.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProjected(ProductFilterDTORequest filter,
+                                                     List<String> fields,
+                                                     Pageable pageable,
+                                                     boolean exactCount) {
+        ProductFilter productFilter = toProductFilter(filter);
+
+        Slice<Map<String, Object>> productsSlice = productRepository.findAll(productFilter, ProductFields.resolve(fields), pageable);
+
+        if(productsSlice.isEmpty())
+            throw new EmptyProductsListException();
+
+        return toPage(productsSlice, productFilter, exactCount);
+    }
+
+    /**
+     * Retrieves a slice of the products matching a filter, positioned after the given cursor.
+     *
+     * @param filter the optional stock, price and margin ranges to apply.
+     * @param after the opaque cursor of the previous slice, or {@code null}/blank for the first slice.
+     * @param sort the sort order the slice is built with.
+     * @param size the maximum number of products to return.
+     * @return the slice of products as a {@link ProductSliceDTOResponse}.
+     *
+     * @throws InvalidDataEntryException if the cursor is invalid, the sort is not supported or a range is inverted.
+     *
+     * <p>An empty slice is a valid result (it marks the end of the scroll), so unlike
+     * {@link #getAll(ProductFilterDTORequest, Pageable, boolean)} no {@link EmptyProductsListException} is thrown.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSliceDTOResponse getAllAfter(ProductFilterDTORequest filter, String after, Sort sort, int size) {
+        ProductFilter productFilter = toProductFilter(filter);
+        productCursorCodec.validateSort(sort);
+        ScrollPosition position = productCursorCodec.decode(after, sort);
+
+        Window<Product> productsWindow = productRepository.findAll(productFilter, position, sort, size);
+
+        String nextCursor = productsWindow.hasNext()
+                ? productCursorCodec.encode(productsWindow.positionAt(productsWindow.size() - 1))
+                : null;
+
+        return new ProductSliceDTOResponse(
+                productsWindow.map(productDTOMapper::toProductDTOResponse).getContent(),
+                productsWindow.size(),
+                productsWindow.hasNext(),
+                nextCursor);
+    }
+
+    /**
+     * Retrieves a page of the products matching a free-text query.
+     *
+     * @param query the text to search for.
+     * @param pageable the page to return; its sort is ignored.
+     * @return the matching products as {@link ProductDTOResponse}, ordered by relevance.
+     *
+     * @Transactional(readOnly = true) to avoid locking and improve performance on read-only operations.
+     *
+     * <p>Matching and ranking are resolved by the in-memory {@link ProductSearchIndex}; the database
+     * is only hit with a single {@code IN} query to load the products of the requested page. An empty
+     * page is a valid result, so no {@link EmptyProductsListException} is thrown.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductDTOResponse> search(String query, Pageable pageable) {
+        ProductSearchResult result = productSearchIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+
+        Map<UUID, Product> productsById = productRepository.findAllById(result.productIds()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // Products deleted since the index was queried are simply left out of the page.
+        List<ProductDTOResponse> products = result.productIds().stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .map(productDTOMapper::toProductDTOResponse)
+                .toList();
+
+        return new PageImpl<>(products, pageable, result.total());
+    }
+
+    /**
+     * Streams the whole catalog to the given action.
+     *
+     * @param action the callback receiving each product as a {@link ProductDTOResponse}.
+     *
+     * @Transactional(readOnly = true) so the streaming read runs on a single read-only connection.
+     *
+     * <p>Each row is mapped and handed over as soon as it is read, so no page is built and
+     * no {@code count(*)} query is issued. Products are not cached.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ProductDTOResponse> action) {
+        productRepository.forEach(product -> action.accept(productDTOMapper.toProductDTOResponse(product)));
+    }
+
     /**
      * Retrieves a single product by its unique identifier.
      *
@@ -69,15 +275,91 @@ public class ProductService implements IProductService {
      * @throws ProductNotFoundException if no product exists with the given UUID.
      *
      * @Transactional(readOnly = true) to ensure data integrity without writing locks.
+     *
+     * <p>Read-through cached in {@link CacheConfig#PRODUCTS_CACHE}: hits are served from memory
+     * without opening a transaction, and concurrent misses on the same key load it only once.
+     * Misses are read from the primary even when read replicas are configured, so that replica lag
+     * never ends up in the cache.</p>
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id", sync = true)
     public ProductDTOResponse getById(UUID id) {
-        Product product = productRepository.findById(id)
+        Product product = readForCache(() -> productRepository.findById(id))
                 .orElseThrow(ProductNotFoundException::new);
         return productDTOMapper.toProductDTOResponse(product);
     }
 
+    /**
+     * Retrieves some of the properties of a single product.
+     *
+     * @param id the UUID of the product to retrieve.
+     * @param fields the names of the properties to return.
+     * @return the requested properties of the product, in the requested order.
+     *
+     * @throws ProductNotFoundException if no product exists with the given UUID.
+     * @throws InvalidDataEntryException if no field or an unknown field is requested.
+     *
+     * @Transactional(readOnly = true) to ensure data integrity without writing locks.
+     *
+     * <p>Only the requested columns are read, and the row is returned as is, without going through
+     * {@link Product} and {@link ProductDTOResponse}. Not cached, unlike {@link #getById(UUID)}.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getByIdProjected(UUID id, List<String> fields) {
+        return productRepository.findById(id, ProductFields.resolve(fields))
+                .orElseThrow(ProductNotFoundException::new);
+    }
+
+    /**
+     * Retrieves many products by their unique identifiers in a single call.
+     *
+     * @param ids the UUIDs to resolve, possibly repeated.
+     * @return one item per requested UUID, in request order, marking the products that do not exist.
+     *
+     * @throws InvalidDataEntryException if a UUID is missing or more than {@code products.lookup.max-ids} are requested.
+     *
+     * @Transactional(readOnly = true) to avoid locking and improve performance on read-only operations.
+     *
+     * <p>Products are read from {@link CacheConfig#PRODUCTS_CACHE} first, as {@link #getById(UUID)} does;
+     * the misses are loaded together through {@link IProductRepository#findAllById(java.util.Collection)},
+     * in chunked {@code IN} queries, and cached in turn. Each distinct UUID is resolved once. As they are
+     * cached, the misses are read from the primary, like those of {@link #getById(UUID)}.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductLookupDTOResponse lookup(List<UUID> ids) {
+        if (ids.size() > lookupMaxIds)
+            throw new InvalidDataEntryException("At most " + lookupMaxIds + " ids can be looked up at once");
+        if (ids.stream().anyMatch(Objects::isNull))
+            throw new InvalidDataEntryException("Product id is required");
+
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        Map<UUID, ProductDTOResponse> productsById = new HashMap<>();
+        Set<UUID> misses = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            ProductDTOResponse cached = cache != null ? cache.get(id, ProductDTOResponse.class) : null;
+            if (cached != null)
+                productsById.put(id, cached);
+            else
+                misses.add(id);
+        }
+
+        for (Product product : readForCache(() -> productRepository.findAllById(misses))) {
+            ProductDTOResponse productDTOResponse = productDTOMapper.toProductDTOResponse(product);
+            productsById.put(product.getId(), productDTOResponse);
+            if (cache != null)
+                cache.put(product.getId(), productDTOResponse);
+        }
+
+        return ProductLookupDTOResponse.of(ids.stream()
+                .map(id -> productsById.containsKey(id)
+                        ? ProductLookupItemDTOResponse.found(productsById.get(id))
+                        : ProductLookupItemDTOResponse.missing(id))
+                .toList());
+    }
+
     /**
      * Creates a new product in the system.
      *
@@ -96,9 +378,10 @@ public class ProductService implements IProductService {
 
             Product product = productDTOMapper.toProduct(createProductDTORequest);
 
-            validateProductData(product);
+            productValidator.validateProductData(product);
 
             Product createdProduct = productRepository.save(product);
+            eventPublisher.publishEvent(new ProductSavedEvent(createdProduct, true));
 
             return productDTOMapper.toProductDTOResponse(createdProduct);
 
@@ -107,34 +390,74 @@ public class ProductService implements IProductService {
         }
     }
 
+    /**
+     * Creates many products, validating each item and persisting them in chunked JDBC batches.
+     *
+     * @param createProductDTORequests DTOs containing the details of the products to be created.
+     * @return a {@link BatchProductDTOResponse} with the outcome of every item.
+     *
+     * <p>Not transactional by itself: every chunk of {@code products.batch.chunk-size} items
+     * is committed in its own transaction (see {@link #saveInChunks(List, Function)}).</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchProductDTOResponse createAll(List<CreateProductDTORequest> createProductDTORequests) {
+        return saveInChunks(createProductDTORequests, productDTOMapper::toProduct);
+    }
+
+    /**
+     * Creates or updates many products, validating each item and persisting them in chunked JDBC batches.
+     *
+     * @param updateProductDTORequests DTOs of the products to upsert; items with an {@code id} are updates.
+     * @return a {@link BatchProductDTOResponse} with the outcome of every item.
+     *
+     * <p>Not transactional by itself: every chunk of {@code products.batch.chunk-size} items
+     * is committed in its own transaction (see {@link #saveInChunks(List, Function)}).
+     * Cached entries of updated products are evicted once their chunk commits.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchProductDTOResponse upsertAll(List<UpdateProductDTORequest> updateProductDTORequests) {
+        return saveInChunks(updateProductDTORequests, productDTOMapper::toProduct);
+    }
+
     /**
      * Updates an existing product identified by its UUID.
      *
      * @param id the UUID of the product to update.
      * @param updateProductDTORequest DTO containing the new data for the product.
-     * @return the updated product as a {@link ProductDTOResponse}.
+     * @param expectedVersion the version the product must still have, or {@code null} for an unconditional update.
+     * @return the updated product as a {@link ProductDTOResponse}, carrying its new version.
      *
      * @throws ProductNotFoundException if no product exists with the provided UUID.
+     * @throws ProductVersionMismatchException if the product exists but no longer has the expected version.
      * @throws InvalidDataEntryException if input data is invalid or violates business rules.
      * @throws DataIntegrityViolationException if database constraints are violated.
      * @throws JpaSystemException or PersistenceException for JPA-level errors.
+     *
+     * <p>Runs a single {@code UPDATE}, which also checks and increments the version: a missing product
+     * or a stale version is detected from the affected row count instead of a prior read, and only
+     * then told apart with an existence check. The version is incremented even if no value changes,
+     * so every successful update returns a new version. The cached entry for the product is replaced
+     * with the updated one once the transaction commits.</p>
      */
     @Override
-    public ProductDTOResponse update(UUID id, UpdateProductDTORequest updateProductDTORequest) {
-        if(!productRepository.existsById(id))
-            throw new ProductNotFoundException();
-
+    @CachePut(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public ProductDTOResponse update(UUID id, UpdateProductDTORequest updateProductDTORequest, Long expectedVersion) {
         try {
 
             updateProductDTORequest.setId(id);
 
             Product product = productDTOMapper.toProduct(updateProductDTORequest);
+            product.setVersion(expectedVersion);
 
-            validateProductData(product);
+            productValidator.validateProductData(product);
 
-            Product updatedProduct = productRepository.save(product);
+            if(productRepository.updateById(product) == 0)
+                throw missingOrModified(id, expectedVersion);
+            eventPublisher.publishEvent(new ProductSavedEvent(product, false));
 
-            return productDTOMapper.toProductDTOResponse(updatedProduct);
+            return productDTOMapper.toProductDTOResponse(product);
 
         } catch (DataIntegrityViolationException | JpaSystemException | PersistenceException e) {
             throw new InvalidDataEntryException();
@@ -145,57 +468,279 @@ public class ProductService implements IProductService {
      * Deletes a product by its UUID.
      *
      * @param id the UUID of the product to delete.
+     * @param expectedVersion the version the product must still have, or {@code null} for an unconditional delete.
      *
      * @throws ProductNotFoundException if no product exists with the given UUID.
+     * @throws ProductVersionMismatchException if the product exists but no longer has the expected version.
      *
-     * <p>Transactional method: the delete operation is performed within a transaction to ensure consistency.</p>
+     * <p>Transactional method: the delete operation is performed within a transaction to ensure consistency.
+     * Runs a single {@code DELETE}, which also checks the version; a missing product is detected from
+     * the affected row count.
+     * The cached entry for the product is evicted once the transaction commits.</p>
      */
     @Override
-    public void delete(UUID id) {
-        if(!productRepository.existsById(id))
-            throw new ProductNotFoundException();
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public void delete(UUID id, Long expectedVersion) {
+        if(!productRepository.deleteById(id, expectedVersion))
+            throw missingOrModified(id, expectedVersion);
+        eventPublisher.publishEvent(new ProductDeletedEvent(id));
+    }
 
-        productRepository.deleteById(id);
+    /**
+     * Adds a delta to the stock of a product in a single conditional {@code UPDATE}.
+     *
+     * @param id the UUID of the product to adjust.
+     * @param stockAdjustmentDTORequest the DTO holding the delta to apply.
+     * @return the stock after the adjustment as a {@link ProductStockDTOResponse}.
+     *
+     * @throws ProductNotFoundException if no product exists with the given UUID.
+     * @throws InsufficientStockException if the adjustment would make the stock negative.
+     *
+     * <p>Unlike {@link #update(UUID, UpdateProductDTORequest, Long)}, the current stock is never read
+     * before writing: the database adds the delta and checks the result in the same statement.
+     * Concurrent adjustments of a hot product therefore queue only on the row lock of that
+     * {@code UPDATE}, and none of them is lost. A missing product and an insufficient stock are only
+     * told apart, with an existence check, on failure. The cached product is evicted, as its stock changed.</p>
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public ProductStockDTOResponse adjustStock(UUID id, StockAdjustmentDTORequest stockAdjustmentDTORequest) {
+        return applyStockAdjustment(id, stockAdjustmentDTORequest.getDelta());
+    }
+
+    /**
+     * Applies several stock adjustments in a single transaction.
+     *
+     * @param stockAdjustmentDTORequests the adjustments to apply, each one identifying its product.
+     * @return the stock of each adjusted product as {@link ProductStockDTOResponse}, ordered by UUID.
+     *
+     * @throws InvalidDataEntryException if an item has no {@code id} or no {@code delta}.
+     * @throws ProductNotFoundException if one of the products does not exist.
+     * @throws InsufficientStockException if one of the adjustments would make a stock negative.
+     *
+     * <p>Adjustments of the same product are summed up, and products are updated in UUID order, so
+     * that two orders sharing products always lock their rows in the same order and cannot deadlock.
+     * Any failure rolls back every adjustment of the request. The cached products are evicted once
+     * the transaction commits.</p>
+     */
+    @Override
+    public List<ProductStockDTOResponse> adjustStocks(List<StockAdjustmentDTORequest> stockAdjustmentDTORequests) {
+        SortedMap<UUID, Long> deltasById = new TreeMap<>();
+        for (StockAdjustmentDTORequest stockAdjustmentDTORequest : stockAdjustmentDTORequests) {
+            productValidator.validateRequest(stockAdjustmentDTORequest);
+            if (stockAdjustmentDTORequest.getId() == null)
+                throw new InvalidDataEntryException("Product id is required");
+            deltasById.merge(stockAdjustmentDTORequest.getId(), stockAdjustmentDTORequest.getDelta(), Long::sum);
+        }
+
+        List<ProductStockDTOResponse> productStocks = deltasById.entrySet().stream()
+                .map(entry -> applyStockAdjustment(entry.getKey(), entry.getValue()))
+                .toList();
+
+        evictAfterCommit(deltasById.keySet());
+        return productStocks;
     }
 
 
     /**
-     * Validates the integrity and business rules of a {@link Product} before persistence.
+     * Validates and persists the given requests chunk by chunk.
      * <p>
-     * This method ensures that:
+     * For every chunk:
      * <ul>
-     *   <li>Product name is not null or blank.</li>
-     *   <li>Base price and cost price are positive values.</li>
-     *   <li>Base price is greater than or equal to cost price.</li>
-     *   <li>Stock is non-negative.</li>
+     *   <li>Each item is checked with Bean Validation and {@link ProductValidator#validateProductData(Product)};
+     *   invalid items are reported and skipped.</li>
+     *   <li>Items referencing an ID are checked for existence with a single query.</li>
+     *   <li>The remaining items are saved with {@link IProductRepository#saveAll(List)} in one transaction.</li>
      * </ul>
+     * A database error fails only the items of the chunk being committed.
      * </p>
      *
-     * @param product the {@link Product} to validate.
-     * @throws InvalidDataEntryException if any validation rule is violated.
-     *
-     * <p>This is a private utility method, not transactional by itself.</p>
+     * @param requests  the request DTOs, in client order.
+     * @param toProduct the mapping from a request DTO to a {@link Product}.
+     * @return a {@link BatchProductDTOResponse} with the outcome of every item.
      */
-    private void validateProductData(Product product) {
-        if (product.getName() == null || product.getName().isBlank()) {
-            throw new InvalidDataEntryException("Product name is required");
-        }
+    private <T> BatchProductDTOResponse saveInChunks(List<T> requests, Function<T, Product> toProduct) {
+        BatchProductItemDTOResponse[] results = new BatchProductItemDTOResponse[requests.size()];
+
+        for (int from = 0; from < requests.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, requests.size());
 
-        if (product.getBasePrice() == null || product.getBasePrice() <= 0) {
-            throw new InvalidDataEntryException("Base price must be greater than zero");
+            Map<Integer, Product> validProducts = new LinkedHashMap<>();
+            for (int index = from; index < to; index++) {
+                try {
+                    productValidator.validateRequest(requests.get(index));
+                    Product product = toProduct.apply(requests.get(index));
+                    productValidator.validateProductData(product);
+                    validProducts.put(index, product);
+                } catch (InvalidDataEntryException e) {
+                    results[index] = BatchProductItemDTOResponse.failure(index, e.getMessage());
+                }
+            }
+
+            if (validProducts.isEmpty())
+                continue;
+
+            try {
+                Map<Integer, BatchProductItemDTOResponse> chunkResults =
+                        transactionTemplate.execute(status -> saveChunk(validProducts));
+                chunkResults.forEach((index, result) -> results[index] = result);
+                evictUpdatedProducts(chunkResults.values());
+            } catch (DataAccessException | TransactionException | PersistenceException e) {
+                validProducts.keySet().forEach(index ->
+                        results[index] = BatchProductItemDTOResponse.failure(index, new InvalidDataEntryException().getMessage()));
+            }
         }
 
-        if (product.getCostPrice() == null || product.getCostPrice() <= 0) {
-            throw new InvalidDataEntryException("Cost price must be greater than zero");
+        return BatchProductDTOResponse.of(Arrays.asList(results));
+    }
+
+    /**
+     * Persists one chunk of already validated products within the current transaction.
+     *
+     * @param validProducts the products to save, keyed by their index in the request.
+     * @return the outcome of each item, keyed by its index in the request.
+     */
+    private Map<Integer, BatchProductItemDTOResponse> saveChunk(Map<Integer, Product> validProducts) {
+        Map<Integer, BatchProductItemDTOResponse> chunkResults = new LinkedHashMap<>();
+
+        Set<UUID> existingIds = productRepository.findExistingIds(validProducts.values().stream()
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<Integer> indexes = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        validProducts.forEach((index, product) -> {
+            if (product.getId() != null && !existingIds.contains(product.getId())) {
+                chunkResults.put(index, BatchProductItemDTOResponse.failure(index, new ProductNotFoundException().getMessage()));
+            } else {
+                indexes.add(index);
+                products.add(product);
+            }
+        });
+
+        List<Product> savedProducts = productRepository.saveAll(products);
+
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            BatchItemStatus status = products.get(i).getId() == null ? BatchItemStatus.CREATED : BatchItemStatus.UPDATED;
+            eventPublisher.publishEvent(new ProductSavedEvent(savedProducts.get(i), status == BatchItemStatus.CREATED));
+            chunkResults.put(index, BatchProductItemDTOResponse.success(
+                    index, status, productDTOMapper.toProductDTOResponse(savedProducts.get(i))));
         }
 
-        if (product.getBasePrice() < product.getCostPrice()) {
-            throw new InvalidDataEntryException("Base price cannot be lower than cost price");
+        return chunkResults;
+    }
+
+    /**
+     * Evicts the cached responses of the products updated by a committed chunk.
+     *
+     * @param chunkResults the outcome of each item of the chunk.
+     */
+    private void evictUpdatedProducts(Iterable<BatchProductItemDTOResponse> chunkResults) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        if (cache == null)
+            return;
+
+        for (BatchProductItemDTOResponse result : chunkResults) {
+            if (result.getStatus() == BatchItemStatus.UPDATED)
+                cache.evict(result.getProduct().getId());
         }
+    }
+
+    /**
+     * Reads products that are about to be cached in {@link CacheConfig#PRODUCTS_CACHE} from the primary.
+     * <p>
+     * Read from a lagging replica, they would be served from the cache until it expires, long after the
+     * replica has caught up. Without a products cache ({@code spring.cache.type=none}), they are read
+     * like any other read-only query.
+     * </p>
+     *
+     * @param read the read of the products.
+     * @return its result.
+     */
+    private <T> T readForCache(Supplier<T> read) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        return cache == null || cache instanceof NoOpCache ? read.get() : ReadWriteRoutingDataSource.readFromPrimary(read);
+    }
+
+    /**
+     * Evicts the cached responses of products once the current transaction commits.
+     * <p>
+     * Evicting earlier would let a concurrent {@link #getById(UUID)} reload the uncommitted,
+     * hence previous, state of a product and cache it until it expires.
+     * </p>
+     *
+     * @param ids the UUIDs of the products written by the current transaction.
+     */
+    private void evictAfterCommit(Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        if (cache == null)
+            return;
 
-        if (product.getStock() == null || product.getStock() < 0) {
-            throw new InvalidDataEntryException("Stock cannot be negative");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(cache::evict);
+            return;
         }
+        List<UUID> evictedIds = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictedIds.forEach(cache::evict);
+            }
+        });
+    }
+
+    private ProductStockDTOResponse applyStockAdjustment(UUID id, long delta) {
+        Long stock = productRepository.adjustStock(id, delta).orElseThrow(() -> {
+            // Only on failure: tell a missing product apart from an insufficient stock.
+            if (!productRepository.existsById(id))
+                return new ProductNotFoundException();
+            return new InsufficientStockException(id, delta);
+        });
+        return new ProductStockDTOResponse(id, stock);
+    }
+
+    /**
+     * Explains why a conditional write affected no row.
+     *
+     * @param id the UUID of the product that was not written.
+     * @param expectedVersion the version the write was conditioned on, if any.
+     * @return the exception to throw.
+     */
+    private RuntimeException missingOrModified(UUID id, Long expectedVersion) {
+        if (expectedVersion != null && productRepository.existsById(id))
+            return new ProductVersionMismatchException();
+        return new ProductNotFoundException();
+    }
+
+    /**
+     * Turns a slice into a page, taking its total from the count cache.
+     * <p>
+     * A cached total may be stale, so it is corrected with what the slice itself proves: the last
+     * slice ends the results, and any other slice is followed by at least one more product.
+     * </p>
+     *
+     * @param slice the non-empty slice read from the repository.
+     * @param filter the filter the slice was read with.
+     * @param exactCount whether to count the matching products instead of using the cached total.
+     * @return the page, with the same content as the slice.
+     */
+    private <T> Page<T> toPage(Slice<T> slice, ProductFilter filter, boolean exactCount) {
+        long total = exactCount ? productCountCache.countExactly(filter) : productCountCache.count(filter);
+
+        long read = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        total = slice.hasNext() ? Math.max(total, read + 1) : read;
+
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private ProductFilter toProductFilter(ProductFilterDTORequest filter) {
+        ProductFilter productFilter = filter == null ? new ProductFilter() : productDTOMapper.toProductFilter(filter);
+        productValidator.validateFilter(productFilter);
+        return productFilter;
     }
 
 }
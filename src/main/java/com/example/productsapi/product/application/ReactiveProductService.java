@@ -0,0 +1,147 @@
+package com.example.productsapi.product.application;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnR2dbcPersistence;
+import com.example.productsapi.product.application.dto.mapper.IProductDTOMapper;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.application.exception.EmptyProductsListException;
+import com.example.productsapi.product.application.exception.ProductNotFoundException;
+import com.example.productsapi.product.application.validation.ProductValidator;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.repository.IReactiveProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive application service that implements the product use cases on top of
+ * {@link IReactiveProductRepository}.
+ * <p>
+ * Applies the same business rules ({@link ProductValidator}) and raises the same exceptions as
+ * {@link ProductService}, so the API behaves identically whichever persistence stack is selected.
+ * </p>
+ *
+ * <p><b>Transaction management:</b> Annotated with {@link Transactional} at the class level;
+ * for reactive return types Spring uses the R2DBC {@code ReactiveTransactionManager}.</p>
+ *
+ * <p><b>Design note:</b> Only registered when {@code products.persistence.type=r2dbc}.</p>
+ */
+@Service
+@ConditionalOnR2dbcPersistence
+@Transactional
+@RequiredArgsConstructor
+public class ReactiveProductService implements IReactiveProductService {
+
+    private final IReactiveProductRepository productRepository;
+    private final IProductDTOMapper productDTOMapper;
+    private final ProductValidator productValidator;
+
+    /**
+     * Retrieves a paginated list of products.
+     *
+     * @param pageable the pagination configuration (page size, number, and sorting).
+     * @return a {@link Mono} emitting the page of products as {@link ProductDTOResponse}.
+     *
+     * <p>The page content and the total count are queried one after the other, on the connection
+     * of the read-only transaction.
+     * Signals {@link EmptyProductsListException} if the page is empty.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Page<ProductDTOResponse>> getAll(Pageable pageable) {
+        return Mono.zip(
+                        productRepository.findAll(pageable)
+                                .map(productDTOMapper::toProductDTOResponse)
+                                .collectList(),
+                        productRepository.count())
+                .flatMap(contentAndTotal -> contentAndTotal.getT1().isEmpty()
+                        ? Mono.error(new EmptyProductsListException())
+                        : Mono.just(new PageImpl<>(contentAndTotal.getT1(), pageable, contentAndTotal.getT2())));
+    }
+
+    /**
+     * Retrieves a single product by its unique identifier.
+     *
+     * @param id the UUID of the product to retrieve.
+     * @return a {@link Mono} emitting the found product as a {@link ProductDTOResponse}.
+     *
+     * <p>Signals {@link ProductNotFoundException} if no product exists with the given UUID.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<ProductDTOResponse> getById(UUID id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(ProductNotFoundException::new))
+                .map(productDTOMapper::toProductDTOResponse);
+    }
+
+    /**
+     * Creates a new product in the system.
+     *
+     * @param createProductDTORequest DTO containing the details of the product to be created.
+     * @return a {@link Mono} emitting the created product as a {@link ProductDTOResponse}.
+     *
+     * <p>Signals {@link InvalidDataEntryException} if validation fails or database constraints are violated.</p>
+     */
+    @Override
+    public Mono<ProductDTOResponse> create(CreateProductDTORequest createProductDTORequest) {
+        return Mono.fromCallable(() -> {
+                    Product product = productDTOMapper.toProduct(createProductDTORequest);
+                    productValidator.validateProductData(product);
+                    return product;
+                })
+                .flatMap(productRepository::save)
+                .map(productDTOMapper::toProductDTOResponse)
+                .onErrorMap(DataIntegrityViolationException.class, e -> new InvalidDataEntryException());
+    }
+
+    /**
+     * Updates an existing product identified by its UUID.
+     *
+     * @param id the UUID of the product to update.
+     * @param updateProductDTORequest DTO containing the new data for the product.
+     * @return a {@link Mono} emitting the updated product as a {@link ProductDTOResponse}.
+     *
+     * <p>Runs a single {@code UPDATE}; signals {@link ProductNotFoundException} when no row was
+     * affected, or {@link InvalidDataEntryException} if the data is invalid.</p>
+     */
+    @Override
+    public Mono<ProductDTOResponse> update(UUID id, UpdateProductDTORequest updateProductDTORequest) {
+        return Mono.fromCallable(() -> {
+                    updateProductDTORequest.setId(id);
+                    Product product = productDTOMapper.toProduct(updateProductDTORequest);
+                    productValidator.validateProductData(product);
+                    return product;
+                })
+                .flatMap(product -> productRepository.updateById(product)
+                        .flatMap(rowsUpdated -> rowsUpdated == 0
+                                ? Mono.<Product>error(new ProductNotFoundException())
+                                : Mono.just(product)))
+                .map(productDTOMapper::toProductDTOResponse)
+                .onErrorMap(DataIntegrityViolationException.class, e -> new InvalidDataEntryException());
+    }
+
+    /**
+     * Deletes a product by its UUID.
+     *
+     * @param id the UUID of the product to delete.
+     * @return a {@link Mono} completing once the product is deleted.
+     *
+     * <p>Runs a single {@code DELETE}; signals {@link ProductNotFoundException} when no row was removed.</p>
+     */
+    @Override
+    public Mono<Void> delete(UUID id) {
+        return productRepository.deleteById(id)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : Mono.error(new ProductNotFoundException()));
+    }
+
+}
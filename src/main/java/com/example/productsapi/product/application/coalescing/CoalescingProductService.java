@@ -0,0 +1,190 @@
+package com.example.productsapi.product.application.coalescing;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.common.infrastructure.database.routing.ReadWriteRoutingDataSource;
+import com.example.productsapi.product.application.IProductService;
+import com.example.productsapi.product.application.ProductService;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
+import com.example.productsapi.product.application.dto.request.StockAdjustmentDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.BatchProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductLookupDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductSliceDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductStockDTOResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator of {@link ProductService} that coalesces concurrent identical reads (single-flight).
+ * <p>
+ * When many clients ask for the same page at the same time (e.g. a popular listing behind a link
+ * shared widely), only the first request reaches the database; the others wait for it and share
+ * its {@link ProductDTOResponse}s, or its exception.
+ * </p>
+ *
+ * <p><b>Coalesced reads:</b></p>
+ * <ul>
+ *   <li>{@link #getAll(ProductFilterDTORequest, Pageable, boolean)} and
+ *       {@link #getAllProjected(ProductFilterDTORequest, List, Pageable, boolean)}, keyed by the filter,
+ *       the normalized {@link Pageable} (page, size and sort), the fields and the counting mode.</li>
+ *   <li>{@link #search(String, Pageable)}, keyed by the query and the page.</li>
+ * </ul>
+ * <p>Every other method, writes included, is delegated as is. In particular {@link #getById(UUID)} is
+ * not coalesced here: its cache already loads concurrent misses of a product once, and hits need no
+ * coalescing.</p>
+ *
+ * <p><b>Metrics:</b> Callers served by another caller's call are counted as {@code products.coalesced},
+ * tagged with the method name. Coalesced calls do not reach the {@code products.service} timer.</p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Active by default on the JPA stack; {@code products.coalescing.enabled=false} removes it,
+ *       so that controllers use {@link ProductService} directly.</li>
+ *   <li>Results are only shared while the call is running, never afterwards. A reader may still get
+ *       the outcome of a call that started just before its own write committed, as with any cache.</li>
+ *   <li>The shared call runs on the leader's thread and transaction, so it is routed as the leader's
+ *       request is. Keys therefore include whether the caller is pinned to the primary database
+ *       (see {@link ReadWriteRoutingDataSource#pinToPrimary()}), so that a client reading its own
+ *       writes never receives the result of a call run on a replica.</li>
+ * </ul>
+ */
+@Service
+@Primary
+@ConditionalOnJpaPersistence
+@ConditionalOnProperty(name = "products.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingProductService implements IProductService {
+
+    private final IProductService delegate;
+
+    private final SingleFlight<PageKey, Page<ProductDTOResponse>> getAllCalls;
+    private final SingleFlight<PageKey, Page<Map<String, Object>>> getAllProjectedCalls;
+    private final SingleFlight<SearchKey, Page<ProductDTOResponse>> searchCalls;
+
+    public CoalescingProductService(@Qualifier("productService") IProductService delegate,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.getAllCalls = singleFlight(meterRegistry, "getAll");
+        this.getAllProjectedCalls = singleFlight(meterRegistry, "getAllProjected");
+        this.searchCalls = singleFlight(meterRegistry, "search");
+    }
+
+    @Override
+    public Page<ProductDTOResponse> getAll(ProductFilterDTORequest filter, Pageable pageable, boolean exactCount) {
+        return getAllCalls.execute(new PageKey(filter, null, normalize(pageable), exactCount, pinnedToPrimary()),
+                () -> delegate.getAll(filter, pageable, exactCount));
+    }
+
+    @Override
+    public Page<Map<String, Object>> getAllProjected(ProductFilterDTORequest filter,
+                                                     List<String> fields,
+                                                     Pageable pageable,
+                                                     boolean exactCount) {
+        return getAllProjectedCalls.execute(new PageKey(filter, fields, normalize(pageable), exactCount, pinnedToPrimary()),
+                () -> delegate.getAllProjected(filter, fields, pageable, exactCount));
+    }
+
+    @Override
+    public ProductSliceDTOResponse getAllAfter(ProductFilterDTORequest filter, String after, Sort sort, int size) {
+        return delegate.getAllAfter(filter, after, sort, size);
+    }
+
+    @Override
+    public Page<ProductDTOResponse> search(String query, Pageable pageable) {
+        return searchCalls.execute(new SearchKey(query, normalize(pageable), pinnedToPrimary()),
+                () -> delegate.search(query, pageable));
+    }
+
+    @Override
+    public void exportAll(Consumer<ProductDTOResponse> action) {
+        delegate.exportAll(action);
+    }
+
+    @Override
+    public ProductDTOResponse getById(UUID id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public Map<String, Object> getByIdProjected(UUID id, List<String> fields) {
+        return delegate.getByIdProjected(id, fields);
+    }
+
+    @Override
+    public ProductLookupDTOResponse lookup(List<UUID> ids) {
+        return delegate.lookup(ids);
+    }
+
+    @Override
+    public ProductDTOResponse create(CreateProductDTORequest createProductDTORequest) {
+        return delegate.create(createProductDTORequest);
+    }
+
+    @Override
+    public BatchProductDTOResponse createAll(List<CreateProductDTORequest> createProductDTORequests) {
+        return delegate.createAll(createProductDTORequests);
+    }
+
+    @Override
+    public BatchProductDTOResponse upsertAll(List<UpdateProductDTORequest> updateProductDTORequests) {
+        return delegate.upsertAll(updateProductDTORequests);
+    }
+
+    @Override
+    public ProductDTOResponse update(UUID id, UpdateProductDTORequest updateProductDTORequest, Long expectedVersion) {
+        return delegate.update(id, updateProductDTORequest, expectedVersion);
+    }
+
+    @Override
+    public ProductStockDTOResponse adjustStock(UUID id, StockAdjustmentDTORequest stockAdjustmentDTORequest) {
+        return delegate.adjustStock(id, stockAdjustmentDTORequest);
+    }
+
+    @Override
+    public List<ProductStockDTOResponse> adjustStocks(List<StockAdjustmentDTORequest> stockAdjustmentDTORequests) {
+        return delegate.adjustStocks(stockAdjustmentDTORequests);
+    }
+
+    @Override
+    public void delete(UUID id, Long expectedVersion) {
+        delegate.delete(id, expectedVersion);
+    }
+
+    private static <K, V> SingleFlight<K, V> singleFlight(MeterRegistry meterRegistry, String method) {
+        return new SingleFlight<>(meterRegistry.counter("products.coalesced", "method", method));
+    }
+
+    private static boolean pinnedToPrimary() {
+        return ReadWriteRoutingDataSource.isPinnedToPrimary();
+    }
+
+    /**
+     * Reduces a {@link Pageable} to the page, size and sort it requests, whatever its implementation.
+     */
+    private static Pageable normalize(Pageable pageable) {
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort())
+                : pageable;
+    }
+
+    private record PageKey(ProductFilterDTORequest filter, List<String> fields, Pageable pageable, boolean exactCount,
+                           boolean pinnedToPrimary) {
+    }
+
+    private record SearchKey(String query, Pageable pageable, boolean pinnedToPrimary) {
+    }
+
+}
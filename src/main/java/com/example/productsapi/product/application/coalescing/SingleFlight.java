@@ -0,0 +1,80 @@
+package com.example.productsapi.product.application.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight call among the concurrent callers asking for the same key.
+ * <p>
+ * The first caller of a key (the leader) runs the call on its own thread; callers arriving
+ * while it is running wait for its outcome instead of running their own, and receive the
+ * same result or the same exception. Once the call completes the key is forgotten, so the
+ * next caller runs it again: results are never reused after the fact, unlike a cache.
+ * </p>
+ *
+ * @param <K> the type of the keys; must implement {@code equals} and {@code hashCode}.
+ * @param <V> the type of the results.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    /**
+     * @param coalesced the counter incremented for every caller that waits for another one's call.
+     */
+    public SingleFlight(Counter coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Runs the call for a key, or waits for the one already running for it.
+     *
+     * @param key the key identifying the call.
+     * @param call the call to run if none is in flight for the key.
+     * @return the result of the call.
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+
+        V result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // Forgotten before being completed, so that no caller can join a call that has already ended.
+        calls.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (e.getCause() instanceof Error error)
+                throw error;
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+}
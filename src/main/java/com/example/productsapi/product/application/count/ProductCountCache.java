@@ -0,0 +1,115 @@
+package com.example.productsapi.product.application.count;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.domain.ProductFilter;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.event.ProductSavedEvent;
+import com.example.productsapi.product.domain.repository.IProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the number of products matching each listing filter.
+ * <p>
+ * Listings read their page without a {@code count(*)} query and take the total from here, so
+ * paging through a large catalog does not scan every matching row on each request.
+ * </p>
+ *
+ * <p><b>Freshness:</b></p>
+ * <ul>
+ *   <li>The unfiltered total is kept current between counts: it is incremented and decremented from
+ *       {@link ProductSavedEvent} (creations only) and {@link ProductDeletedEvent}, applied after
+ *       the writing transaction commits.</li>
+ *   <li>Filtered totals cannot be maintained from the events alone (an update or a stock adjustment
+ *       may move a product in or out of a range), so they may be stale for up to
+ *       {@code products.count.ttl}.</li>
+ *   <li>Every total is counted again once {@code products.count.ttl} has passed since it was cached.</li>
+ * </ul>
+ *
+ * <p><b>Design note:</b> Concurrent misses on the same filter wait for a single count query instead
+ * of each issuing their own.</p>
+ */
+@Component
+@ConditionalOnJpaPersistence
+@RequiredArgsConstructor
+public class ProductCountCache {
+
+    private static final ProductFilter UNFILTERED = new ProductFilter();
+
+    private final IProductRepository productRepository;
+
+    @Value("${products.count.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${products.count.max-filters:1000}")
+    private int maxFilters;
+
+    private Cache<ProductFilter, AtomicLong> counts;
+
+    @PostConstruct
+    void initCounts() {
+        counts = Caffeine.newBuilder()
+                .maximumSize(maxFilters)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the number of products matching a filter, counting them only if it is not cached.
+     *
+     * @param filter the ranges the products must fall within.
+     * @return the cached or freshly counted number of matching products.
+     */
+    public long count(ProductFilter filter) {
+        return counts.get(filter, f -> new AtomicLong(productRepository.count(f))).get();
+    }
+
+    /**
+     * Counts the products matching a filter and caches the result.
+     *
+     * @param filter the ranges the products must fall within.
+     * @return the exact number of matching products.
+     */
+    public long countExactly(ProductFilter filter) {
+        long count = productRepository.count(filter);
+        counts.put(filter, new AtomicLong(count));
+        return count;
+    }
+
+    /**
+     * Increments the unfiltered total when a product is created.
+     *
+     * @param event the event carrying the persisted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductSaved(ProductSavedEvent event) {
+        if (event.isCreated())
+            adjustUnfiltered(1);
+    }
+
+    /**
+     * Decrements the unfiltered total when a product is deleted.
+     *
+     * @param event the event carrying the UUID of the deleted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        adjustUnfiltered(-1);
+    }
+
+    private void adjustUnfiltered(long delta) {
+        AtomicLong count = counts.getIfPresent(UNFILTERED);
+        if (count != null)
+            count.accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.example.productsapi.product.application.cursor;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Encodes and decodes the opaque cursors used by the keyset listing of products.
+ * <p>
+ * A cursor is the URL-safe Base64 form of a small JSON object holding the values of
+ * the sort key(s) and the {@code id} of the last product returned in a slice.
+ * Decoding restores each value to the Java type of its property, so the resulting
+ * {@link KeysetScrollPosition} can be bound directly as query parameters.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Only properties listed in {@link #SORTABLE_PROPERTIES} may be used as keyset sort keys.</li>
+ *   <li>A cursor is only valid for the sort it was produced with; any mismatch is rejected.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCursorCodec {
+
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * Product properties allowed as keyset sort keys, mapped to the conversion
+     * from their JSON representation back to the property type.
+     */
+    private static final Map<String, Function<Object, Object>> SORTABLE_PROPERTIES = Map.of(
+            ID_PROPERTY, value -> UUID.fromString(value.toString()),
+            "name", Object::toString,
+            "description", Object::toString,
+            "stock", value -> ((Number) value).longValue(),
+            "basePrice", value -> ((Number) value).doubleValue(),
+            "costPrice", value -> ((Number) value).doubleValue()
+    );
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Validates that every order of the given sort can be used as a keyset sort key.
+     *
+     * @param sort the requested sort.
+     * @throws InvalidDataEntryException if a property is not sortable.
+     */
+    public void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.containsKey(order.getProperty()))
+                throw new InvalidDataEntryException("Unsupported sort property '" + order.getProperty() + "'");
+        }
+    }
+
+    /**
+     * Decodes a client supplied cursor into a forward {@link ScrollPosition}.
+     *
+     * @param cursor the opaque cursor, or {@code null}/blank to start from the first product.
+     * @param sort   the sort the cursor is expected to have been produced with.
+     * @return the scroll position to continue from.
+     * @throws InvalidDataEntryException if the cursor is malformed or does not match the sort.
+     */
+    public ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank())
+            return ScrollPosition.keyset();
+
+        Map<String, Object> rawKeys;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            rawKeys = objectMapper.readValue(json, new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidDataEntryException("Invalid cursor");
+        }
+
+        if (!rawKeys.keySet().equals(expectedKeys(sort)))
+            throw new InvalidDataEntryException("Cursor does not match the requested sort");
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            rawKeys.forEach((property, value) ->
+                    keys.put(property, SORTABLE_PROPERTIES.get(property).apply(value)));
+        } catch (RuntimeException e) {
+            throw new InvalidDataEntryException("Invalid cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Encodes the position of the last product of a slice into an opaque cursor.
+     *
+     * @param position the position returned by the repository for the last element.
+     * @return the cursor to hand out to clients.
+     */
+    public String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keysetPosition))
+            throw new IllegalArgumentException("Only keyset positions can be encoded as cursors");
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keysetPosition.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    private Set<String> expectedKeys(Sort sort) {
+        Set<String> keys = new HashSet<>();
+        sort.forEach(order -> keys.add(order.getProperty()));
+        keys.add(ID_PROPERTY);
+        return keys;
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.example.productsapi.product.application.dto.mapper;
 
 import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
 import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
 import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
 import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.ProductFilter;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
@@ -14,5 +16,6 @@ public interface IProductDTOMapper {
     Product toProduct(CreateProductDTORequest createProductDTORequest);
     Product toProduct(UpdateProductDTORequest updateProductDTORequest);
     ProductDTOResponse toProductDTOResponse(Product product);
+    ProductFilter toProductFilter(ProductFilterDTORequest productFilterDTORequest);
 
 }
@@ -0,0 +1,45 @@
+package com.example.productsapi.product.application.dto.request;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) holding the optional filters of the product listings.
+ * <p>
+ * Bound from the query string of {@code GET /api/v1/products}, e.g.
+ * {@code ?maxStock=10&minBasePrice=100}. Every bound is inclusive and may be omitted.
+ * </p>
+ *
+ * <p><b>Validation Rules:</b></p>
+ * <ul>
+ *   <li>Stock and price bounds must be zero or positive.</li>
+ *   <li>Margin bounds ({@code basePrice - costPrice}) may be negative.</li>
+ *   <li>Each {@code min*} bound must not be greater than its {@code max*} counterpart (checked by the service).</li>
+ * </ul>
+ *
+ * <p><b>Used by:</b></p>
+ * <ul>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#getAll(ProductFilterDTORequest, org.springframework.data.domain.Pageable, boolean)}</li>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#getAllProjected(ProductFilterDTORequest, java.util.List, org.springframework.data.domain.Pageable, boolean)}</li>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#getAllAfter(ProductFilterDTORequest, String, org.springframework.data.domain.Sort, int)}</li>
+ * </ul>
+ */
+@Data
+public class ProductFilterDTORequest {
+
+    @PositiveOrZero
+    private Long minStock;
+    @PositiveOrZero
+    private Long maxStock;
+    @PositiveOrZero
+    private Double minBasePrice;
+    @PositiveOrZero
+    private Double maxBasePrice;
+    @PositiveOrZero
+    private Double minCostPrice;
+    @PositiveOrZero
+    private Double maxCostPrice;
+    private Double minMargin;
+    private Double maxMargin;
+
+}
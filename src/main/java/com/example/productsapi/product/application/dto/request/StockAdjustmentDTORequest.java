@@ -0,0 +1,34 @@
+package com.example.productsapi.product.application.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) used for adjusting the stock of a product.
+ * <p>
+ * Carries a relative change rather than the resulting value, so that concurrent
+ * adjustments of the same product are all applied instead of overwriting each other.
+ * </p>
+ *
+ * <p><b>Validation Rules:</b></p>
+ * <ul>
+ *   <li>{@code delta} must not be null; it is negative to take units out and positive to put them back.</li>
+ *   <li>{@code id} is taken from the path for a single adjustment, and is required in every item of a batch.</li>
+ * </ul>
+ *
+ * <p><b>Used by:</b></p>
+ * <ul>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#adjustStock(UUID, StockAdjustmentDTORequest)}</li>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#adjustStocks(java.util.List)}</li>
+ * </ul>
+ */
+@Data
+public class StockAdjustmentDTORequest {
+
+    private UUID id;
+    @NotNull
+    private Long delta;
+
+}
@@ -23,8 +23,8 @@ import java.util.UUID;
  *
  * <p><b>Used by:</b></p>
  * <ul>
- *   <li>{@link com.example.productsapi.product.infrastructure.restcontroller.ProductsController#update(UUID, UpdateProductDTORequest)}</li>
- *   <li>{@link com.example.productsapi.product.application.IProductService#update(UUID, UpdateProductDTORequest)}</li>
+ *   <li>{@link com.example.productsapi.product.infrastructure.restcontroller.ProductsController#update(UUID, String, UpdateProductDTORequest)}</li>
+ *   <li>{@link com.example.productsapi.product.application.IProductService#update(UUID, UpdateProductDTORequest, Long)}</li>
  * </ul>
  *
  * <p><b>Design Notes:</b></p>
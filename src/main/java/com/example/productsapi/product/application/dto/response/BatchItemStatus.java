@@ -0,0 +1,18 @@
+package com.example.productsapi.product.application.dto.response;
+
+/**
+ * Outcome of a single item within a batch create or upsert request.
+ *
+ * <ul>
+ *   <li>{@link #CREATED} – the item was inserted as a new product.</li>
+ *   <li>{@link #UPDATED} – the item replaced the values of an existing product.</li>
+ *   <li>{@link #FAILED} – the item was rejected; see the item's {@code error}.</li>
+ * </ul>
+ */
+public enum BatchItemStatus {
+
+    CREATED,
+    UPDATED,
+    FAILED
+
+}
@@ -0,0 +1,46 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the batch create and upsert endpoints.
+ * <p>
+ * Reports the outcome of every item in request order, so that a client can retry
+ * only the failed ones instead of resubmitting the whole batch.
+ * </p>
+ *
+ * <p><b>Typical JSON Response Example:</b></p>
+ * <pre>
+ * {
+ *   "total": 2,
+ *   "succeeded": 1,
+ *   "failed": 1,
+ *   "items": [
+ *     { "index": 0, "status": "CREATED", "product": { "id": "...", ... }, "error": null },
+ *     { "index": 1, "status": "FAILED", "product": null, "error": "Base price cannot be lower than cost price" }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProductDTOResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchProductItemDTOResponse> items;
+
+    public static BatchProductDTOResponse of(List<BatchProductItemDTOResponse> items) {
+        int failed = (int) items.stream()
+                .filter(item -> item.getStatus() == BatchItemStatus.FAILED)
+                .count();
+        return new BatchProductDTOResponse(items.size(), items.size() - failed, failed, items);
+    }
+
+}
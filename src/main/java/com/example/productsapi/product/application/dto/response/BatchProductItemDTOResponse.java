@@ -0,0 +1,34 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing the result of one item of a batch request.
+ *
+ * <p><b>Design Notes:</b></p>
+ * <ul>
+ *   <li>{@code index} is the zero-based position of the item in the request body.</li>
+ *   <li>{@code product} is only set for successful items, {@code error} only for failed ones.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProductItemDTOResponse {
+
+    private int index;
+    private BatchItemStatus status;
+    private ProductDTOResponse product;
+    private String error;
+
+    public static BatchProductItemDTOResponse success(int index, BatchItemStatus status, ProductDTOResponse product) {
+        return new BatchProductItemDTOResponse(index, status, product, null);
+    }
+
+    public static BatchProductItemDTOResponse failure(int index, String error) {
+        return new BatchProductItemDTOResponse(index, BatchItemStatus.FAILED, null, error);
+    }
+
+}
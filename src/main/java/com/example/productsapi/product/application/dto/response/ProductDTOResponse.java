@@ -13,5 +13,6 @@ public class ProductDTOResponse {
     private Long stock;
     private Double basePrice;
     private Double costPrice;
+    private Long version;
 
 }
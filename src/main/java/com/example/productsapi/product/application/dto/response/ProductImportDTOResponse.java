@@ -0,0 +1,65 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) reporting the progress of a product import.
+ * <p>
+ * Returned when an import is started and every time its status is queried, so
+ * the counters reflect the state of the import at the time of the request.
+ * </p>
+ *
+ * <p><b>Typical JSON Response Example:</b></p>
+ * <pre>
+ * {
+ *   "id": "...",
+ *   "fileName": "catalog.ndjson",
+ *   "format": "NDJSON",
+ *   "status": "RUNNING",
+ *   "bytesRead": 52428800,
+ *   "bytesTotal": 314572800,
+ *   "rowsRead": 250000,
+ *   "rowsImported": 249500,
+ *   "rowsRejected": 12,
+ *   "rowsPerSecond": 41583.3,
+ *   "startedAt": "2024-01-01T10:00:00Z",
+ *   "finishedAt": null,
+ *   "failure": null,
+ *   "rejectedRows": [ { "line": 42, "error": "stock: must not be null" } ]
+ * }
+ * </pre>
+ *
+ * <p><b>Design Notes:</b></p>
+ * <ul>
+ *   <li>{@code rowsPerSecond} is the number of imported rows per second since the import started.</li>
+ *   <li>{@code rejectedRows} only lists the first {@code products.import.max-reported-rejections} rejections;
+ *       {@code rowsRejected} always counts all of them.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportDTOResponse {
+
+    private UUID id;
+    private String fileName;
+    private ProductImportFormat format;
+    private ProductImportStatus status;
+    private long bytesRead;
+    private long bytesTotal;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String failure;
+    private List<RejectedRowDTOResponse> rejectedRows;
+
+}
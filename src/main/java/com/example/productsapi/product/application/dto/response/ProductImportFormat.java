@@ -0,0 +1,32 @@
+package com.example.productsapi.product.application.dto.response;
+
+/**
+ * Supported formats of product import files.
+ *
+ * <ul>
+ *   <li>{@link #NDJSON} – one JSON object per line, with the fields of {@code CreateProductDTORequest}.</li>
+ *   <li>{@link #CSV} – a header line naming the columns ({@code name, description, stock, basePrice, costPrice}),
+ *       followed by one product per line.</li>
+ * </ul>
+ */
+public enum ProductImportFormat {
+
+    NDJSON,
+    CSV;
+
+    /**
+     * Infers the format of an uploaded file from its name or content type.
+     *
+     * @param fileName    the original file name, may be {@code null}.
+     * @param contentType the declared content type, may be {@code null}.
+     * @return {@link #CSV} for {@code .csv} files or {@code text/csv} content, {@link #NDJSON} otherwise.
+     */
+    public static ProductImportFormat from(String fileName, String contentType) {
+        if (fileName != null && fileName.toLowerCase().endsWith(".csv"))
+            return CSV;
+        if (contentType != null && contentType.toLowerCase().startsWith("text/csv"))
+            return CSV;
+        return NDJSON;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.productsapi.product.application.dto.response;
+
+/**
+ * Lifecycle state of a product import.
+ *
+ * <ul>
+ *   <li>{@link #RUNNING} – the file is still being parsed, validated and persisted.</li>
+ *   <li>{@link #COMPLETED} – every row was processed; some of them may have been rejected.</li>
+ *   <li>{@link #FAILED} – the import stopped early; see the import's {@code failure}.</li>
+ * </ul>
+ */
+public enum ProductImportStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
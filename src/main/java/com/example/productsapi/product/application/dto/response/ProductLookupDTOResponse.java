@@ -0,0 +1,46 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the lookup endpoint.
+ * <p>
+ * Holds one item per requested ID, in request order (duplicates included), so that a client
+ * resolving the lines of a cart or an order can zip them with its own list.
+ * </p>
+ *
+ * <p><b>Typical JSON Response Example:</b></p>
+ * <pre>
+ * {
+ *   "total": 2,
+ *   "found": 1,
+ *   "missing": 1,
+ *   "items": [
+ *     { "id": "0190f6e2-...", "found": true, "product": { "id": "0190f6e2-...", ... } },
+ *     { "id": "0190f6e3-...", "found": false, "product": null }
+ *   ]
+ * }
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupDTOResponse {
+
+    private int total;
+    private int found;
+    private int missing;
+    private List<ProductLookupItemDTOResponse> items;
+
+    public static ProductLookupDTOResponse of(List<ProductLookupItemDTOResponse> items) {
+        int found = (int) items.stream()
+                .filter(ProductLookupItemDTOResponse::isFound)
+                .count();
+        return new ProductLookupDTOResponse(items.size(), found, items.size() - found, items);
+    }
+
+}
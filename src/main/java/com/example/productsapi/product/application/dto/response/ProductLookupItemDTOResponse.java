@@ -0,0 +1,35 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) describing the result of one ID of a lookup request.
+ *
+ * <p><b>Design Notes:</b></p>
+ * <ul>
+ *   <li>{@code id} is echoed as requested, so items can be matched without relying on their position.</li>
+ *   <li>{@code product} is only set when {@code found} is {@code true}.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupItemDTOResponse {
+
+    private UUID id;
+    private boolean found;
+    private ProductDTOResponse product;
+
+    public static ProductLookupItemDTOResponse found(ProductDTOResponse product) {
+        return new ProductLookupItemDTOResponse(product.getId(), true, product);
+    }
+
+    public static ProductLookupItemDTOResponse missing(UUID id) {
+        return new ProductLookupItemDTOResponse(id, false, null);
+    }
+
+}
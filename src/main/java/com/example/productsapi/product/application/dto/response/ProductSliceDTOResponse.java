@@ -0,0 +1,42 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) returned by the keyset (cursor-based) listing of products.
+ * <p>
+ * Unlike a {@code Page}, a slice carries no total element or page count, so it can be
+ * produced without running a {@code count(*)} query on the products table.
+ * </p>
+ *
+ * <p><b>Typical JSON Response Example:</b></p>
+ * <pre>
+ * {
+ *   "content": [ { "id": "...", "name": "pencil", ... } ],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "eyJuYW1lIjoicGVuY2lsIiwiaWQiOiIuLi4ifQ"
+ * }
+ * </pre>
+ *
+ * <p><b>Design Notes:</b></p>
+ * <ul>
+ *   <li>{@code nextCursor} is opaque to clients and must be sent back unchanged in the {@code after} parameter.</li>
+ *   <li>{@code nextCursor} is {@code null} when {@code hasNext} is {@code false}.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSliceDTOResponse {
+
+    private List<ProductDTOResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+}
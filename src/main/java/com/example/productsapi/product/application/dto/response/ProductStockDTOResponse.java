@@ -0,0 +1,31 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) returned by the stock adjustments.
+ * <p>
+ * Holds the stock of a product right after the adjustment was applied.
+ * </p>
+ *
+ * <p><b>Typical JSON Response Example:</b></p>
+ * <pre>
+ * {
+ *   "id": "0190f0e1-a2b3-7c4d-8e9f-001122334455",
+ *   "stock": 7
+ * }
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockDTOResponse {
+
+    private UUID id;
+    private Long stock;
+
+}
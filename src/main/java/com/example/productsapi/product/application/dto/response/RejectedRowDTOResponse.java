@@ -0,0 +1,24 @@
+package com.example.productsapi.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing a row of an import file that was not persisted.
+ *
+ * <p><b>Design Notes:</b></p>
+ * <ul>
+ *   <li>{@code line} is the one-based line number of the row in the file.</li>
+ *   <li>{@code error} uses the same messages as the single and batch endpoints.</li>
+ * </ul>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedRowDTOResponse {
+
+    private long line;
+    private String error;
+
+}
@@ -0,0 +1,27 @@
+package com.example.productsapi.product.application.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a stock adjustment would leave a product with a negative stock.
+ * <p>
+ * The adjustment is rejected by the conditional {@code UPDATE} itself, so the stock
+ * is left untouched and, for a batch, the whole order is rolled back.
+ * </p>
+ *
+ * <p><b>HTTP Mapping:</b> Translated to {@code 409 CONFLICT} by
+ * {@link com.example.productsapi.common.exception.infrastructure.controller.ExceptionController}.</p>
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    /**
+     * Creates a new {@code InsufficientStockException} for the given product and adjustment.
+     *
+     * @param id    the UUID of the product whose stock is insufficient.
+     * @param delta the rejected stock adjustment.
+     */
+    public InsufficientStockException(UUID id, long delta) {
+        super("Insufficient stock to apply " + delta + " to product " + id);
+    }
+
+}
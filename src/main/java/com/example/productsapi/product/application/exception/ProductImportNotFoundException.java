@@ -0,0 +1,22 @@
+package com.example.productsapi.product.application.exception;
+
+/**
+ * Exception thrown when a product import cannot be found by the given identifier.
+ * <p>
+ * Imports are only kept in memory, so this is also raised for imports that were
+ * started before the last restart or that are no longer retained.
+ * </p>
+ *
+ * <p><b>HTTP Mapping:</b> Translated to {@code 404 NOT FOUND} by
+ * {@link com.example.productsapi.common.exception.infrastructure.controller.ExceptionController}.</p>
+ */
+public class ProductImportNotFoundException extends RuntimeException {
+
+    /**
+     * Creates a new {@code ProductImportNotFoundException} with a default message.
+     */
+    public ProductImportNotFoundException() {
+        super("Import not found!");
+    }
+
+}
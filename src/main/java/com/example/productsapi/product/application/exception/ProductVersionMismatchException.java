@@ -0,0 +1,28 @@
+package com.example.productsapi.product.application.exception;
+
+/**
+ * Exception thrown when a conditional write targets a version of a product that is no longer current.
+ * <p>
+ * Raised when the version sent by the client (the {@code If-Match} ETag) does not match the stored
+ * one, meaning that someone else changed the product after the client read it. Nothing is written.
+ * </p>
+ *
+ * <p><b>Typical Scenarios:</b></p>
+ * <ul>
+ *   <li>Two clients update the same product starting from the same version; the second one is rejected.</li>
+ *   <li>Deleting a product that was modified since it was last read.</li>
+ * </ul>
+ *
+ * <p><b>HTTP Mapping:</b> Translated to {@code 412 PRECONDITION FAILED} by
+ * {@link com.example.productsapi.common.exception.infrastructure.controller.ExceptionController}.</p>
+ */
+public class ProductVersionMismatchException extends RuntimeException {
+
+    /**
+     * Creates a new {@code ProductVersionMismatchException} with a default message.
+     */
+    public ProductVersionMismatchException() {
+        super("Product has been modified by another request!");
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.example.productsapi.product.application.idfilter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counting Bloom filter of UUIDs: a probabilistic set that supports removals.
+ * <p>
+ * {@link #mightContain(UUID)} never answers {@code false} for a UUID that was added and not removed
+ * since; it answers {@code true} for a UUID that was never added with roughly the false positive rate
+ * the filter was sized for.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Each UUID maps to {@code k} of {@code m} 4-bit counters, packed sixteen to a {@code long} and
+ *       updated with compare-and-set, so lookups and updates are lock-free.</li>
+ *   <li>A counter reaching 15 sticks there: its real count is no longer known, so it is never decremented.
+ *       This can only leave false positives behind, never false negatives.</li>
+ *   <li>Positions are derived from two 64-bit hashes of the UUID (double hashing).</li>
+ *   <li>Removing a UUID that was never added corrupts the counters of others; callers must not do it.</li>
+ * </ul>
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions the number of UUIDs the filter is sized for.
+     * @param falsePositiveRate the rate of false positives expected once that many UUIDs are added.
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1");
+
+        long insertions = Math.max(1, expectedInsertions);
+        long counters = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counterCount = Math.max(COUNTERS_PER_WORD, counters);
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / insertions * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    /**
+     * Adds a UUID to the filter.
+     */
+    public void add(UUID uuid) {
+        long hash1 = hash1(uuid);
+        long hash2 = hash2(uuid);
+        for (int i = 0; i < hashCount; i++)
+            increment(position(hash1, hash2, i));
+    }
+
+    /**
+     * Removes a UUID previously added to the filter.
+     */
+    public void remove(UUID uuid) {
+        long hash1 = hash1(uuid);
+        long hash2 = hash2(uuid);
+        for (int i = 0; i < hashCount; i++)
+            decrement(position(hash1, hash2, i));
+    }
+
+    /**
+     * Whether a UUID may have been added: {@code false} means it definitely was not, or was removed since.
+     */
+    public boolean mightContain(UUID uuid) {
+        long hash1 = hash1(uuid);
+        long hash2 = hash2(uuid);
+        for (int i = 0; i < hashCount; i++) {
+            if (counter(position(hash1, hash2, i)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Memory held by the counters, in bytes.
+     */
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long position(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, counterCount);
+    }
+
+    private long counter(long position) {
+        return (words.get(word(position)) >>> shift(position)) & COUNTER_MASK;
+    }
+
+    private void increment(long position) {
+        int word = word(position);
+        int shift = shift(position);
+        long current;
+        do {
+            current = words.get(word);
+            if (((current >>> shift) & COUNTER_MASK) == COUNTER_MASK)
+                return;
+        } while (!words.compareAndSet(word, current, current + (1L << shift)));
+    }
+
+    private void decrement(long position) {
+        int word = word(position);
+        int shift = shift(position);
+        long current;
+        do {
+            current = words.get(word);
+            long counter = (current >>> shift) & COUNTER_MASK;
+            if (counter == 0 || counter == COUNTER_MASK)
+                return;
+        } while (!words.compareAndSet(word, current, current - (1L << shift)));
+    }
+
+    private static int word(long position) {
+        return (int) (position / COUNTERS_PER_WORD);
+    }
+
+    private static int shift(long position) {
+        return (int) (position % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static long hash1(UUID uuid) {
+        return mix(uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32));
+    }
+
+    private static long hash2(UUID uuid) {
+        return mix(uuid.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    /**
+     * Finalization step of MurmurHash3 (fmix64), spreading every input bit over the whole hash.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE53A6D79L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
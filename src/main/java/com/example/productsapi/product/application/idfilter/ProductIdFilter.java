@@ -0,0 +1,144 @@
+package com.example.productsapi.product.application.idfilter;
+
+import com.example.productsapi.common.id.UuidV7;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.domain.ProductFilter;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.repository.IProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of the existing product UUIDs, answering whether a product may exist without a query.
+ * <p>
+ * Backed by a {@link CountingBloomFilter}: a product it does not contain definitely does not exist, so
+ * requests for unknown UUIDs (scrapers, stale clients) can be rejected before reaching the database.
+ * A product it contains may still be missing (false positive), in which case the database decides.
+ * </p>
+ *
+ * <p><b>Lifecycle:</b></p>
+ * <ul>
+ *   <li>Built once the application is ready, by streaming the whole catalog from the repository, and sized
+ *       for the catalog at that time and {@code products.id-filter.false-positive-rate}.</li>
+ *   <li>Products deleted afterwards are removed from it, from {@link ProductDeletedEvent} applied after
+ *       the deleting transaction commits.</li>
+ *   <li>Until it is built, every product may exist.</li>
+ * </ul>
+ *
+ * <p><b>Coverage:</b> The filter only judges the UUIDs it could have seen: those that are not version 7
+ * (only UUIDv7s are generated, so such products predate the build) and the version 7 ones created
+ * before its build started, minus {@code products.id-filter.commit-margin} for transactions still
+ * running then. A more recent UUIDv7 may belong to a product created since, possibly by another
+ * instance of the API, so it is always looked up in the database.</p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Creations are not added: the products they create are newer than the build, hence not covered.
+ *       This keeps the filter correct whichever instance created a product, as a product is only ever
+ *       removed after having been added.</li>
+ *   <li>Products deleted while the filter is built are skipped if not yet streamed, and left in it
+ *       otherwise, where they are merely false positives.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnJpaPersistence
+@ConditionalOnProperty(name = "products.id-filter.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProductIdFilter {
+
+    private final IProductRepository productRepository;
+
+    @Value("${products.id-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${products.id-filter.commit-margin:5m}")
+    private Duration commitMargin;
+
+    private volatile CountingBloomFilter filter;
+    private volatile long coveredUntilMillis;
+
+    /**
+     * Products deleted while the filter is built, not to be added by the build.
+     */
+    private final Set<UUID> deletedDuringBuild = ConcurrentHashMap.newKeySet();
+    private boolean building;
+
+    /**
+     * Loads the UUIDs of the whole catalog once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long coveredUntil = System.currentTimeMillis() - commitMargin.toMillis();
+        synchronized (this) {
+            building = true;
+            deletedDuringBuild.clear();
+        }
+
+        CountingBloomFilter builtFilter = new CountingBloomFilter(productRepository.count(new ProductFilter()),
+                falsePositiveRate);
+        long[] loaded = {0};
+        try {
+            productRepository.forEach(product -> {
+                UUID id = product.getId();
+                if (covers(id, coveredUntil) && !deletedDuringBuild.contains(id)) {
+                    builtFilter.add(id);
+                    loaded[0]++;
+                }
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                building = false;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            building = false;
+            coveredUntilMillis = coveredUntil;
+            filter = builtFilter;
+        }
+        log.info("Product id filter built with {} products ({} KiB)", loaded[0], builtFilter.sizeInBytes() / 1024);
+    }
+
+    /**
+     * Whether a product may exist: {@code false} means that it definitely does not.
+     *
+     * @param id the UUID of the product.
+     * @return {@code false} only if the product is covered by the filter and absent from it.
+     */
+    public boolean mightExist(UUID id) {
+        CountingBloomFilter current = filter;
+        return current == null || !covers(id, coveredUntilMillis) || current.mightContain(id);
+    }
+
+    /**
+     * Removes a deleted product from the filter.
+     *
+     * @param event the event carrying the UUID of the deleted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductDeleted(ProductDeletedEvent event) {
+        if (building)
+            deletedDuringBuild.add(event.getId());
+        else if (filter != null && covers(event.getId(), coveredUntilMillis))
+            filter.remove(event.getId());
+    }
+
+    private static boolean covers(UUID id, long coveredUntil) {
+        return id.version() != 7 || UuidV7.timestampMillis(id) <= coveredUntil;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.productsapi.product.application.idfilter;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.application.ProductService;
+import com.example.productsapi.product.application.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Rejects the single-product operations of {@link ProductService} on UUIDs that {@link ProductIdFilter}
+ * knows do not exist, by throwing {@link ProductNotFoundException} (404) without querying the database.
+ * <p>
+ * Guards {@code getById}, {@code getByIdProjected}, {@code update}, {@code adjustStock} and {@code delete}.
+ * </p>
+ *
+ * <p><b>Metrics:</b> Rejected calls are counted as {@code products.id-filter.rejections}, tagged with the
+ * method name. They do not reach the {@code products.service} timer.</p>
+ *
+ * <p><b>Design note:</b> The advice is ordered right after the caching advice and before the transactional
+ * one (see {@link com.example.productsapi.common.infrastructure.config.CacheConfig}), so a rejected call
+ * opens no transaction and never borrows a connection from the pool.</p>
+ */
+@Aspect
+@Component
+@ConditionalOnJpaPersistence
+@ConditionalOnProperty(name = "products.id-filter.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ProductIdFilterAspect {
+
+    private final ProductIdFilter productIdFilter;
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.example.productsapi.product.application.ProductService) && args(id, ..) && ("
+            + "execution(* getById(..)) || execution(* getByIdProjected(..)) || execution(* update(..))"
+            + " || execution(* adjustStock(..)) || execution(* delete(..)))")
+    public Object rejectUnknownId(ProceedingJoinPoint joinPoint, UUID id) throws Throwable {
+        if (id != null && !productIdFilter.mightExist(id)) {
+            meterRegistry.counter("products.id-filter.rejections",
+                            "method", joinPoint.getSignature().getName())
+                    .increment();
+            throw new ProductNotFoundException();
+        }
+        return joinPoint.proceed();
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.example.productsapi.product.application.imports;
+
+import com.example.productsapi.product.application.dto.response.ProductImportDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import com.example.productsapi.product.application.dto.response.ProductImportStatus;
+import com.example.productsapi.product.application.dto.response.RejectedRowDTOResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a single product import, updated concurrently by the stages of the import pipeline.
+ * <p>
+ * Counters are atomic and the status is volatile, so a snapshot can be taken with
+ * {@link #toDTOResponse()} at any time while the import runs.
+ * </p>
+ */
+public class ProductImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String fileName;
+    private final ProductImportFormat format;
+    private final long bytesTotal;
+    private final int maxReportedRejections;
+    private final Instant startedAt = Instant.now();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<RejectedRowDTOResponse> rejectedRows = new ArrayList<>();
+
+    private volatile ProductImportStatus status = ProductImportStatus.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    public ProductImportJob(String fileName, ProductImportFormat format, long bytesTotal, int maxReportedRejections) {
+        this.fileName = fileName;
+        this.format = format;
+        this.bytesTotal = bytesTotal;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public boolean isFailed() {
+        return status == ProductImportStatus.FAILED;
+    }
+
+    public void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowsImported(int count) {
+        rowsImported.addAndGet(count);
+    }
+
+    /**
+     * Records a row that will not be persisted.
+     *
+     * @param line  the one-based line number of the row.
+     * @param error the reason the row was rejected.
+     */
+    public void reject(long line, String error) {
+        rowsRejected.incrementAndGet();
+        synchronized (rejectedRows) {
+            if (rejectedRows.size() < maxReportedRejections)
+                rejectedRows.add(new RejectedRowDTOResponse(line, error));
+        }
+    }
+
+    public synchronized void complete() {
+        if (status == ProductImportStatus.RUNNING) {
+            status = ProductImportStatus.COMPLETED;
+            finishedAt = Instant.now();
+        }
+    }
+
+    public synchronized void fail(String failure) {
+        if (status == ProductImportStatus.RUNNING) {
+            this.failure = failure;
+            status = ProductImportStatus.FAILED;
+            finishedAt = Instant.now();
+        }
+    }
+
+    public ProductImportDTOResponse toDTOResponse() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+
+        List<RejectedRowDTOResponse> rejectedRowsSnapshot;
+        synchronized (rejectedRows) {
+            rejectedRowsSnapshot = List.copyOf(rejectedRows);
+        }
+
+        return new ProductImportDTOResponse(
+                id,
+                fileName,
+                format,
+                status,
+                bytesRead.get(),
+                bytesTotal,
+                rowsRead.get(),
+                rowsImported.get(),
+                rowsRejected.get(),
+                rowsImported.get() * 1000.0 / elapsedMillis,
+                startedAt,
+                finishedAt,
+                failure,
+                rejectedRowsSnapshot);
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.example.productsapi.product.application.imports;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Converts the lines of an import file into {@link CreateProductDTORequest} instances.
+ * <p>
+ * Works one line at a time, so files are never loaded in memory as a whole.
+ * A parser instance is stateful for CSV files (it remembers the header) and must
+ * only be used for a single file.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>NDJSON lines are bound exactly like request bodies, using the application's {@link ObjectMapper}.</li>
+ *   <li>CSV columns are matched by header name (case-insensitive) and may appear in any order.
+ *       Fields can be quoted with {@code "}; quoted fields spanning several lines are not supported.</li>
+ * </ul>
+ */
+public class ProductRecordParser {
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "stock", "basePrice", "costPrice");
+
+    private final ProductImportFormat format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> csvColumnIndexes;
+    private boolean headerRead;
+
+    public ProductRecordParser(ProductImportFormat format, ObjectMapper objectMapper) {
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(CreateProductDTORequest.class);
+    }
+
+    /**
+     * Tells whether the next non-blank line is the header of the file rather than a product.
+     *
+     * @return {@code true} for a CSV file whose header has not been read yet.
+     */
+    public boolean expectsHeader() {
+        return format == ProductImportFormat.CSV && !headerRead;
+    }
+
+    /**
+     * Reads the column names of a CSV file.
+     *
+     * @param line the first non-blank line of the file.
+     * @throws InvalidDataEntryException if a required column is missing.
+     */
+    public void readHeader(String line) {
+        headerRead = true;
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int index = 0; index < columns.size(); index++)
+            indexes.put(columns.get(index).trim().toLowerCase(Locale.ROOT), index);
+
+        csvColumnIndexes = new HashMap<>();
+        for (String column : CSV_COLUMNS) {
+            Integer index = indexes.get(column.toLowerCase(Locale.ROOT));
+            if (index == null)
+                throw new InvalidDataEntryException("Missing CSV column '" + column + "'");
+            csvColumnIndexes.put(column, index);
+        }
+    }
+
+    /**
+     * Parses a single product line.
+     *
+     * @param line a non-blank line of the file.
+     * @return the product request described by the line.
+     * @throws InvalidDataEntryException if the line cannot be parsed.
+     */
+    public CreateProductDTORequest parse(String line) {
+        return format == ProductImportFormat.CSV ? parseCsv(line) : parseNdjson(line);
+    }
+
+    private CreateProductDTORequest parseNdjson(String line) {
+        try {
+            return jsonReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new InvalidDataEntryException("Malformed JSON");
+        }
+    }
+
+    private CreateProductDTORequest parseCsv(String line) {
+        List<String> fields = splitCsvLine(line);
+
+        CreateProductDTORequest request = new CreateProductDTORequest();
+        request.setName(field(fields, "name", Function.identity()));
+        request.setDescription(field(fields, "description", Function.identity()));
+        request.setStock(field(fields, "stock", Long::valueOf));
+        request.setBasePrice(field(fields, "basePrice", Double::valueOf));
+        request.setCostPrice(field(fields, "costPrice", Double::valueOf));
+        return request;
+    }
+
+    private <T> T field(List<String> fields, String column, Function<String, T> converter) {
+        int index = csvColumnIndexes.get(column);
+        if (index >= fields.size() || fields.get(index).isBlank())
+            return null;
+
+        try {
+            return converter.apply(fields.get(index).trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidDataEntryException(column + ": invalid number");
+        }
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted)
+            throw new InvalidDataEntryException("Unterminated quoted CSV field");
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
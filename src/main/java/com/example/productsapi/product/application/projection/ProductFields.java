@@ -0,0 +1,54 @@
+package com.example.productsapi.product.application.projection;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves the {@code fields} selected by a client for a sparse product representation.
+ * <p>
+ * Only the properties of {@link com.example.productsapi.product.application.dto.response.ProductDTOResponse}
+ * can be selected; they are passed down to the repository as the attributes to read.
+ * </p>
+ */
+public final class ProductFields {
+
+    /**
+     * Properties that may be selected, in their canonical order.
+     */
+    public static final Set<String> SELECTABLE = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "name", "description", "stock", "basePrice", "costPrice", "version")));
+
+    private ProductFields() {
+    }
+
+    /**
+     * Validates and normalizes a field selection.
+     *
+     * @param fields the requested property names, possibly with blanks or duplicates.
+     * @return the distinct property names, in the order they were requested.
+     * @throws InvalidDataEntryException if no field is selected or a field is unknown.
+     */
+    public static List<String> resolve(Collection<String> fields) {
+        Set<String> resolved = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields) {
+                String name = field.trim();
+                if (name.isEmpty())
+                    continue;
+                if (!SELECTABLE.contains(name))
+                    throw new InvalidDataEntryException("Unsupported field '" + name + "'");
+                resolved.add(name);
+            }
+        }
+
+        if (resolved.isEmpty())
+            throw new InvalidDataEntryException("At least one field must be selected");
+        return List.copyOf(resolved);
+    }
+
+}
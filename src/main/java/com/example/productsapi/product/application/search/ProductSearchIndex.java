@@ -0,0 +1,343 @@
+package com.example.productsapi.product.application.search;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.event.ProductSavedEvent;
+import com.example.productsapi.product.domain.repository.IProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the {@code name} and {@code description} of every product.
+ * <p>
+ * Each term maps to a posting list of the products containing it, so a query only visits the
+ * products that match at least one of its terms instead of scanning the table. Matches are ranked
+ * with BM25, where a term found in the name weighs {@value #NAME_WEIGHT} times one found in the
+ * description.
+ * </p>
+ *
+ * <p><b>Lifecycle:</b></p>
+ * <ul>
+ *   <li>Built once the application is ready, by streaming the whole catalog from the repository.</li>
+ *   <li>Kept up to date from {@link ProductSavedEvent} and {@link ProductDeletedEvent}, applied after
+ *       the writing transaction commits.</li>
+ * </ul>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>Products get an internal {@code int} document number and posting lists are parallel primitive
+ *       arrays, appended in document order. A changed product is removed (tombstoned) and re-added under
+ *       a new number, so updates never shift existing postings.</li>
+ *   <li>Tombstoned documents are purged when they exceed a quarter of the index.</li>
+ *   <li>Searches share a read lock; changes take the write lock for the duration of a single product.</li>
+ *   <li>Terms are lower-cased, accent-folded runs of letters and digits; a query matches any of its terms.</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnJpaPersistence
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 2;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_DOCUMENTS_TO_COMPACT = 1024;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final IProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<UUID, Integer> documentsByProductId = new HashMap<>();
+    private final BitSet deletedDocuments = new BitSet();
+    private UUID[] productIds = new UUID[MIN_DOCUMENTS_TO_COMPACT];
+    private float[] documentLengths = new float[MIN_DOCUMENTS_TO_COMPACT];
+    private int documentCount;
+    private int liveDocumentCount;
+    private double liveDocumentsLength;
+
+    /**
+     * Products changed while the initial build is running. The build skips them, as the
+     * streamed row may be older than the change already applied from the event. Guarded by
+     * the write lock, so that a change cannot slip between the check and the indexing.
+     */
+    private final Set<UUID> changedDuringBuild = new HashSet<>();
+    private volatile boolean building;
+
+    /**
+     * Indexes the whole catalog once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        building = true;
+        try {
+            productRepository.forEach(product -> index(product, true));
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                changedDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Indexes a created or updated product, replacing its previous version.
+     *
+     * @param event the event carrying the persisted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductSaved(ProductSavedEvent event) {
+        index(event.getProduct(), false);
+    }
+
+    /**
+     * Removes a deleted product from the index.
+     *
+     * @param event the event carrying the UUID of the deleted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (building)
+                changedDuringBuild.add(event.getId());
+            remove(event.getId());
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the products matching a free-text query, best matches first.
+     *
+     * @param query  the text to search for.
+     * @param offset the number of best matches to skip.
+     * @param limit  the maximum number of matches to return.
+     * @return the UUIDs of the requested matches and the total number of matching products.
+     */
+    public ProductSearchResult search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || liveDocumentCount == 0)
+                return new ProductSearchResult(List.of(), 0);
+
+            float[] scores = new float[documentCount];
+            int[] matches = new int[16];
+            int matchCount = 0;
+            float averageLength = (float) (liveDocumentsLength / liveDocumentCount);
+
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null)
+                    continue;
+
+                int documentFrequency = Math.min(postings.size, liveDocumentCount);
+                float idf = (float) Math.log(1 + (liveDocumentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                for (int i = 0; i < postings.size; i++) {
+                    int document = postings.documents[i];
+                    if (deletedDocuments.get(document))
+                        continue;
+
+                    float frequency = postings.frequencies[i];
+                    float lengthNorm = 1 - B + B * documentLengths[document] / averageLength;
+                    if (scores[document] == 0) {
+                        if (matchCount == matches.length)
+                            matches = Arrays.copyOf(matches, matchCount * 2);
+                        matches[matchCount++] = document;
+                    }
+                    scores[document] += idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                }
+            }
+
+            if (offset >= matchCount)
+                return new ProductSearchResult(List.of(), matchCount);
+
+            return new ProductSearchResult(topMatches(scores, matches, matchCount, (int) offset, limit), matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UUID> topMatches(float[] scores, int[] matches, int matchCount, int offset, int limit) {
+        int wanted = (int) Math.min((long) offset + limit, matchCount);
+
+        // Min-heap of the best "wanted" documents; ties are broken by the oldest document first.
+        PriorityQueue<Integer> best = new PriorityQueue<>(wanted, (a, b) -> {
+            int byScore = Float.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : Integer.compare(b, a);
+        });
+        for (int i = 0; i < matchCount; i++) {
+            best.offer(matches[i]);
+            if (best.size() > wanted)
+                best.poll();
+        }
+
+        List<UUID> ranked = new ArrayList<>(wanted);
+        while (!best.isEmpty())
+            ranked.add(productIds[best.poll()]);
+        Collections.reverse(ranked);
+        return ranked.subList(offset, ranked.size());
+    }
+
+    /**
+     * @param product  the product to index.
+     * @param streamed whether the product was read by the build, rather than received from an event.
+     */
+    private void index(Product product, boolean streamed) {
+        Map<String, Float> frequencies = new HashMap<>();
+        tokenize(product.getName()).forEach(term -> frequencies.merge(term, (float) NAME_WEIGHT, Float::sum));
+        tokenize(product.getDescription()).forEach(term -> frequencies.merge(term, 1f, Float::sum));
+        float length = (float) frequencies.values().stream().mapToDouble(Float::doubleValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (streamed && changedDuringBuild.contains(product.getId()))
+                return;
+            if (!streamed && building)
+                changedDuringBuild.add(product.getId());
+            remove(product.getId());
+
+            int document = documentCount++;
+            if (document == productIds.length) {
+                productIds = Arrays.copyOf(productIds, document * 2);
+                documentLengths = Arrays.copyOf(documentLengths, document * 2);
+            }
+            productIds[document] = product.getId();
+            documentLengths[document] = length;
+            documentsByProductId.put(product.getId(), document);
+            liveDocumentCount++;
+            liveDocumentsLength += length;
+
+            frequencies.forEach((term, frequency) ->
+                    postingsByTerm.computeIfAbsent(term, t -> new Postings()).add(document, frequency));
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UUID productId) {
+        Integer document = documentsByProductId.remove(productId);
+        if (document == null)
+            return;
+
+        deletedDocuments.set(document);
+        liveDocumentCount--;
+        liveDocumentsLength -= documentLengths[document];
+    }
+
+    /**
+     * Renumbers the live documents and drops the postings of tombstoned ones.
+     */
+    private void compactIfNeeded() {
+        int deletedCount = documentCount - liveDocumentCount;
+        if (documentCount < MIN_DOCUMENTS_TO_COMPACT || deletedCount * 4 < documentCount)
+            return;
+
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deletedDocuments.get(document)) {
+                renumbered[document] = -1;
+            } else {
+                renumbered[document] = next;
+                productIds[next] = productIds[document];
+                documentLengths[next] = documentLengths[document];
+                documentsByProductId.put(productIds[next], next);
+                next++;
+            }
+        }
+        Arrays.fill(productIds, next, documentCount, null);
+
+        Iterator<Postings> iterator = postingsByTerm.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.renumber(renumbered);
+            if (postings.size == 0)
+                iterator.remove();
+        }
+
+        documentCount = next;
+        deletedDocuments.clear();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Posting list of a term: the documents containing it, in ascending order, with the
+     * weighted frequency of the term in each of them.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int document, float frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.productsapi.product.application.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A page of search matches returned by {@link ProductSearchIndex}.
+ *
+ * @param productIds the UUIDs of the requested matches, best match first.
+ * @param total      the total number of products matching the query.
+ */
+public record ProductSearchResult(List<UUID> productIds, long total) {
+}
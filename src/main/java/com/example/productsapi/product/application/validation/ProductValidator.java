@@ -0,0 +1,108 @@
+package com.example.productsapi.product.application.validation;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.ProductFilter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Business rules a {@link Product} must satisfy before it is persisted.
+ * <p>
+ * Shared by every use case that writes products (single, batch and reactive operations),
+ * so that all of them reject exactly the same data.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductValidator {
+
+    private final Validator validator;
+
+    /**
+     * Applies the Bean Validation constraints declared on a request DTO.
+     * <p>
+     * Used where {@code @Valid} on the request body is not applicable, such as the items of
+     * a batch (a single invalid item would reject the whole batch) or the rows of an import file.
+     * </p>
+     *
+     * @param request the request DTO to validate.
+     * @throws InvalidDataEntryException listing every violated constraint.
+     */
+    public void validateRequest(Object request) {
+        if (request == null)
+            throw new InvalidDataEntryException("Product data is required");
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidDataEntryException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Validates the integrity and business rules of a {@link Product} before persistence.
+     * <p>
+     * This method ensures that:
+     * <ul>
+     *   <li>Product name is not null or blank.</li>
+     *   <li>Base price and cost price are positive values.</li>
+     *   <li>Base price is greater than or equal to cost price.</li>
+     *   <li>Stock is non-negative.</li>
+     * </ul>
+     * </p>
+     *
+     * @param product the {@link Product} to validate.
+     * @throws InvalidDataEntryException if any validation rule is violated.
+     *
+     * <p>Not transactional by itself; runs within the caller's context.</p>
+     */
+    public void validateProductData(Product product) {
+        if (product.getName() == null || product.getName().isBlank()) {
+            throw new InvalidDataEntryException("Product name is required");
+        }
+
+        if (product.getBasePrice() == null || product.getBasePrice() <= 0) {
+            throw new InvalidDataEntryException("Base price must be greater than zero");
+        }
+
+        if (product.getCostPrice() == null || product.getCostPrice() <= 0) {
+            throw new InvalidDataEntryException("Cost price must be greater than zero");
+        }
+
+        if (product.getBasePrice() < product.getCostPrice()) {
+            throw new InvalidDataEntryException("Base price cannot be lower than cost price");
+        }
+
+        if (product.getStock() == null || product.getStock() < 0) {
+            throw new InvalidDataEntryException("Stock cannot be negative");
+        }
+    }
+
+    /**
+     * Validates that no range of a {@link ProductFilter} is inverted.
+     *
+     * @param filter the {@link ProductFilter} to validate.
+     * @throws InvalidDataEntryException if a lower bound is greater than its upper bound.
+     */
+    public void validateFilter(ProductFilter filter) {
+        validateRange("stock", filter.getMinStock(), filter.getMaxStock());
+        validateRange("basePrice", filter.getMinBasePrice(), filter.getMaxBasePrice());
+        validateRange("costPrice", filter.getMinCostPrice(), filter.getMaxCostPrice());
+        validateRange("margin", filter.getMinMargin(), filter.getMaxMargin());
+    }
+
+    private <T extends Comparable<? super T>> void validateRange(String property, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new InvalidDataEntryException("Minimum " + property + " cannot be greater than maximum " + property);
+        }
+    }
+
+}
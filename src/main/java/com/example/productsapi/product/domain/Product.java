@@ -17,5 +17,6 @@ public class Product {
     private Long stock;
     private Double basePrice;
     private Double costPrice;
+    private Long version;
 
 }
@@ -0,0 +1,35 @@
+package com.example.productsapi.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inclusive ranges a {@link Product} must fall within to be listed.
+ * A {@code null} bound is not applied; the margin is {@code basePrice - costPrice}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFilter {
+
+    private Long minStock;
+    private Long maxStock;
+    private Double minBasePrice;
+    private Double maxBasePrice;
+    private Double minCostPrice;
+    private Double maxCostPrice;
+    private Double minMargin;
+    private Double maxMargin;
+
+    /**
+     * Whether no bound is set, so that every product is listed.
+     */
+    public boolean isUnbounded() {
+        return minStock == null && maxStock == null
+                && minBasePrice == null && maxBasePrice == null
+                && minCostPrice == null && maxCostPrice == null
+                && minMargin == null && maxMargin == null;
+    }
+
+}
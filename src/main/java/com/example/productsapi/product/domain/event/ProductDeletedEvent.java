@@ -0,0 +1,18 @@
+package com.example.productsapi.product.domain.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Published when a product has been deleted.
+ *
+ * <p><b>Design note:</b> Published inside the writing transaction; listeners that must only see
+ * committed data use {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.</p>
+ */
+@Value
+public class ProductDeletedEvent {
+
+    UUID id;
+
+}
@@ -0,0 +1,23 @@
+package com.example.productsapi.product.domain.event;
+
+import com.example.productsapi.product.domain.Product;
+import lombok.Value;
+
+/**
+ * Published when a product has been created or its values have been replaced.
+ * <p>
+ * Carries the product as persisted, so listeners maintaining derived views of the catalog
+ * (search index, caches, counts) do not need to read it back from the database, and whether
+ * it was inserted or updated.
+ * </p>
+ *
+ * <p><b>Design note:</b> Published inside the writing transaction; listeners that must only see
+ * committed data use {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.</p>
+ */
+@Value
+public class ProductSavedEvent {
+
+    Product product;
+    boolean created;
+
+}
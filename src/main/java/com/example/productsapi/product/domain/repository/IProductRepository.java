@@ -1,19 +1,37 @@
 package com.example.productsapi.product.domain.repository;
 
 import com.example.productsapi.product.domain.Product;
-import org.springframework.data.domain.Page;
+import com.example.productsapi.product.domain.ProductFilter;
 import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IProductRepository {
 
-    Page<Product> findAll(Pageable pageable);
+    Slice<Product> findAll(ProductFilter filter, Pageable pageable);
+    Slice<Map<String, Object>> findAll(ProductFilter filter, List<String> fields, Pageable pageable);
+    Window<Product> findAll(ProductFilter filter, ScrollPosition position, Sort sort, int limit);
+    long count(ProductFilter filter);
     Optional<Product> findById(UUID id);
+    Optional<Map<String, Object>> findById(UUID id, List<String> fields);
+    List<Product> findAllById(Collection<UUID> ids);
     Product save(Product product);
-    void deleteById(UUID id);
+    List<Product> saveAll(List<Product> products);
+    int updateById(Product product);
+    Optional<Long> adjustStock(UUID id, long delta);
+    boolean deleteById(UUID id, Long version);
     boolean existsById(UUID id);
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+    void forEach(Consumer<Product> action);
 
 }
@@ -0,0 +1,19 @@
+package com.example.productsapi.product.domain.repository;
+
+import com.example.productsapi.product.domain.Product;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface IReactiveProductRepository {
+
+    Flux<Product> findAll(Pageable pageable);
+    Mono<Long> count();
+    Mono<Product> findById(UUID id);
+    Mono<Product> save(Product product);
+    Mono<Integer> updateById(Product product);
+    Mono<Boolean> deleteById(UUID id);
+
+}
@@ -0,0 +1,62 @@
+package com.example.productsapi.product.infrastructure.cli;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.application.IProductImportService;
+import com.example.productsapi.product.application.dto.response.ProductImportDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import com.example.productsapi.product.application.dto.response.ProductImportStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point that imports a product file on startup.
+ * <p>
+ * Activated by the {@code products.import.file} property, e.g.
+ * {@code --products.import.file=catalog.ndjson --spring.main.web-application-type=none}.
+ * The format is taken from {@code products.import.format} or inferred from the file name.
+ * </p>
+ *
+ * <p><b>Design note:</b> A failed import aborts the startup, so the process exits with a non-zero status.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnJpaPersistence
+@ConditionalOnProperty("products.import.file")
+@RequiredArgsConstructor
+public class ProductImportRunner implements ApplicationRunner {
+
+    private final IProductImportService productImportService;
+
+    @Value("${products.import.file}")
+    private Path file;
+
+    @Value("${products.import.format:#{null}}")
+    private ProductImportFormat format;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ProductImportFormat importFormat = format != null
+                ? format
+                : ProductImportFormat.from(file.getFileName().toString(), null);
+
+        log.info("Importing {} products from {}", importFormat, file);
+        ProductImportDTOResponse result = productImportService.run(file, importFormat);
+
+        log.info("Import {}: {} rows read, {} imported, {} rejected ({} rows/s)",
+                result.getStatus(), result.getRowsRead(), result.getRowsImported(),
+                result.getRowsRejected(), Math.round(result.getRowsPerSecond()));
+        result.getRejectedRows().forEach(rejectedRow ->
+                log.warn("Rejected line {}: {}", rejectedRow.getLine(), rejectedRow.getError()));
+
+        if (result.getStatus() == ProductImportStatus.FAILED)
+            throw new IllegalStateException("Import failed: " + result.getFailure());
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.productsapi.product.infrastructure.database;
+
+import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IJPAProductCriteriaRepository {
+
+    Slice<ProductEntity> findSlice(Specification<ProductEntity> specification, Pageable pageable, boolean cacheable);
+    Slice<Map<String, Object>> findSliceProjected(Specification<ProductEntity> specification, List<String> fields, Pageable pageable);
+    Optional<Map<String, Object>> findProjectedById(UUID id, List<String> fields);
+
+}
@@ -0,0 +1,150 @@
+package com.example.productsapi.product.infrastructure.database;
+
+import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment of {@link IJPAProductRepository} for the queries built with the Criteria API.
+ * <p>
+ * Covers what derived and {@code @Query} methods cannot express:
+ * </p>
+ * <ul>
+ *   <li>Pages read as a {@link Slice}: one extra row is fetched to know whether more follow,
+ *       so no {@code count(*)} query is issued alongside the page. Entity pages can be flagged as
+ *       cacheable, so that Hibernate's query cache serves them again until the table changes.</li>
+ *   <li>Projections on an arbitrary set of attributes, selected as a JPA {@link Tuple} so that the
+ *       SQL lists just their columns and no {@link ProductEntity} is instantiated. Each row is
+ *       returned as a map from attribute name to value, in the requested order.</li>
+ * </ul>
+ *
+ * <p><b>Design note:</b> a fixed interface projection per combination of fields would not scale
+ * to arbitrary field sets, hence the dynamic criteria query.</p>
+ */
+@RequiredArgsConstructor
+public class IJPAProductCriteriaRepositoryImpl implements IJPAProductCriteriaRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Retrieves a page of products matching a specification, without counting them.
+     *
+     * @param specification the restriction to apply, or {@code null} for none.
+     * @param pageable      the pagination and sorting configuration.
+     * @param cacheable     whether the result may be served from, and stored in, Hibernate's query cache.
+     * @return a {@link Slice} of {@link ProductEntity} telling whether a next page exists.
+     */
+    @Override
+    public Slice<ProductEntity> findSlice(Specification<ProductEntity> specification, Pageable pageable, boolean cacheable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductEntity> query = criteriaBuilder.createQuery(ProductEntity.class);
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        query.select(root);
+        restrictAndSort(query, root, specification, pageable);
+
+        TypedQuery<ProductEntity> typedQuery = entityManager.createQuery(query);
+        if (cacheable)
+            typedQuery.setHint(AvailableHints.HINT_CACHEABLE, true);
+        return slice(typedQuery, pageable);
+    }
+
+    /**
+     * Retrieves a page of products matching a specification, with only the given attributes and without counting them.
+     *
+     * @param specification the restriction to apply, or {@code null} for none.
+     * @param fields        the {@link ProductEntity} attributes to select.
+     * @param pageable      the pagination and sorting configuration.
+     * @return a {@link Slice} of rows, each mapping the requested attributes to their values.
+     */
+    @Override
+    public Slice<Map<String, Object>> findSliceProjected(Specification<ProductEntity> specification,
+                                                         List<String> fields,
+                                                         Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        selectFields(query, root, fields);
+        restrictAndSort(query, root, specification, pageable);
+
+        return slice(entityManager.createQuery(query), pageable)
+                .map(tuple -> toRow(tuple, fields));
+    }
+
+    /**
+     * Finds a product by its UUID, with only the given attributes.
+     *
+     * @param id     the UUID of the product.
+     * @param fields the {@link ProductEntity} attributes to select.
+     * @return an {@link Optional} with the row, or empty if no product has that UUID.
+     */
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(UUID id, List<String> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        selectFields(query, root, fields);
+        query.where(criteriaBuilder.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tuple -> toRow(tuple, fields));
+    }
+
+    private void restrictAndSort(CriteriaQuery<?> query,
+                                 Root<ProductEntity> root,
+                                 Specification<ProductEntity> specification,
+                                 Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+    }
+
+    private <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged())
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> results = query.getResultList();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
+    }
+
+    private void selectFields(CriteriaQuery<Tuple> query, Root<ProductEntity> root, List<String> fields) {
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList());
+    }
+
+    private Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        fields.forEach(field -> row.put(field, tuple.get(field)));
+        return row;
+    }
+
+}
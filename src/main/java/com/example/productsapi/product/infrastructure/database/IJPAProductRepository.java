@@ -2,7 +2,60 @@ package com.example.productsapi.product.infrastructure.database;
 
 import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface IJPAProductRepository extends JpaRepository<ProductEntity, UUID> {
+public interface IJPAProductRepository extends JpaRepository<ProductEntity, UUID>, JpaSpecificationExecutor<ProductEntity>,
+        IJPAProductCriteriaRepository {
+
+    @Query("select p.id from ProductEntity p where p.id in :ids")
+    Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("update ProductEntity p set p.name = :name, p.description = :description, p.stock = :stock, " +
+            "p.basePrice = :basePrice, p.costPrice = :costPrice, p.version = p.version + 1 where p.id = :id")
+    int updateById(@Param("id") UUID id,
+                   @Param("name") String name,
+                   @Param("description") String description,
+                   @Param("stock") Long stock,
+                   @Param("basePrice") Double basePrice,
+                   @Param("costPrice") Double costPrice);
+
+    @Modifying
+    @Query("update ProductEntity p set p.name = :name, p.description = :description, p.stock = :stock, " +
+            "p.basePrice = :basePrice, p.costPrice = :costPrice, p.version = p.version + 1 " +
+            "where p.id = :id and p.version = :version")
+    int updateByIdAndVersion(@Param("id") UUID id,
+                             @Param("version") Long version,
+                             @Param("name") String name,
+                             @Param("description") String description,
+                             @Param("stock") Long stock,
+                             @Param("basePrice") Double basePrice,
+                             @Param("costPrice") Double costPrice);
+
+    @Query("select p.version from ProductEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update ProductEntity p set p.stock = p.stock + :delta, p.version = p.version + 1 where p.id = :id and p.stock + :delta >= 0")
+    int adjustStock(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Query("select p.stock from ProductEntity p where p.id = :id")
+    Optional<Long> findStockById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("delete from ProductEntity p where p.id = :id")
+    int deleteProductById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("delete from ProductEntity p where p.id = :id and p.version = :version")
+    int deleteProductByIdAndVersion(@Param("id") UUID id, @Param("version") Long version);
+
 }
@@ -1,16 +1,37 @@
 package com.example.productsapi.product.infrastructure.database;
 
+import com.example.productsapi.common.id.UuidBytes;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
 import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.ProductFilter;
 import com.example.productsapi.product.domain.repository.IProductRepository;
 import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
 import com.example.productsapi.product.infrastructure.database.mapper.IProductEntityMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Infrastructure adapter that implements {@link IProductRepository}
@@ -30,27 +51,115 @@ import java.util.UUID;
  *
  * <p><b>Design note:</b> Annotated with {@link Repository} so that Spring can
  * detect it as a persistence component and apply exception translation automatically.</p>
+ *
+ * <p><b>Metrics:</b> Every method is timed as {@code products.repository}, so database time can be
+ * told apart from the mapping and serialization time of the layers above.</p>
  */
 @Repository
+@ConditionalOnJpaPersistence
+@Timed(value = "products.repository", description = "Latency of product repository methods")
 @RequiredArgsConstructor
 public class ProductRepository implements IProductRepository {
 
     private final IJPAProductRepository jpaProductRepository;
     private final IProductEntityMapper productEntityMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * JDBC fetch size used when streaming the whole table. {@link Integer#MIN_VALUE}
+     * makes MySQL Connector/J stream rows one at a time instead of buffering the result.
+     */
+    @Value("${products.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int exportFetchSize;
+
+    /**
+     * Maximum number of UUIDs bound to a single {@code IN} query by {@link #findAllById(Collection)}.
+     */
+    @Value("${products.lookup.chunk-size:128}")
+    private int lookupChunkSize;
+
+    /**
+     * Number of leading pages of the unfiltered listing that are read through Hibernate's query cache.
+     */
+    @Value("${products.hibernate-cache.cached-pages:5}")
+    private int cachedPages;
+
+    /**
+     * Retrieves a paginated list of the products matching a filter from the database.
+     *
+     * @param filter   the ranges the products must fall within.
+     * @param pageable the pagination and sorting configuration.
+     * @return a {@link Slice} of {@link Product} domain objects.
+     *
+     * <p>The filter is turned into {@code WHERE} predicates by {@link ProductSpecifications}. No
+     * {@code count(*)} query is issued: one extra row is read to tell whether a next page exists,
+     * and totals are left to {@link #count(ProductFilter)}. Uses the mapper to convert each
+     * {@link ProductEntity} returned by the JPA repository into its domain representation.</p>
+     *
+     * <p>The first {@code products.hibernate-cache.cached-pages} pages of the unfiltered listing, the most
+     * requested ones, go through Hibernate's query cache: repeating one returns the IDs it cached and the
+     * entities from the second-level cache, without SQL, until a write to the table invalidates it.
+     * Filtered and deeper pages are too diverse to be worth caching.</p>
+     */
+    @Override
+    public Slice<Product> findAll(ProductFilter filter, Pageable pageable) {
+        boolean cacheable = filter.isUnbounded() && pageable.isPaged() && pageable.getPageNumber() < cachedPages;
 
+        return jpaProductRepository.findSlice(ProductSpecifications.matching(filter), pageable, cacheable)
+                .map(productEntityMapper::toProduct);
+    }
 
     /**
-     * Retrieves a paginated list of products from the database.
+     * Retrieves a paginated list of the products matching a filter, reading only some of their columns.
      *
+     * @param filter   the ranges the products must fall within.
+     * @param fields   the product properties to read.
      * @param pageable the pagination and sorting configuration.
-     * @return a {@link Page} of {@link Product} domain objects.
+     * @return a {@link Slice} of rows mapping each requested property to its value.
+     *
+     * <p>Only the requested columns appear in the {@code SELECT}; rows are neither materialized as
+     * {@link ProductEntity} instances nor mapped to {@link Product} domain objects. Like
+     * {@link #findAll(ProductFilter, Pageable)}, no {@code count(*)} query is issued.</p>
+     */
+    @Override
+    public Slice<Map<String, Object>> findAll(ProductFilter filter, List<String> fields, Pageable pageable) {
+        return jpaProductRepository.findSliceProjected(ProductSpecifications.matching(filter), fields, pageable);
+    }
+
+    /**
+     * Counts the products matching a filter.
+     *
+     * @param filter the ranges the products must fall within.
+     * @return the number of matching products.
+     *
+     * <p>Issues a {@code count(*)} query with the same {@code WHERE} predicates as
+     * {@link #findAll(ProductFilter, Pageable)}.</p>
+     */
+    @Override
+    public long count(ProductFilter filter) {
+        return jpaProductRepository.count(ProductSpecifications.matching(filter));
+    }
+
+    /**
+     * Retrieves a window of the products matching a filter, positioned after the given keyset.
      *
-     * <p>Uses the mapper to convert each {@link ProductEntity}
-     * returned by the JPA repository into its domain representation.</p>
+     * @param filter   the ranges the products must fall within.
+     * @param position the keyset {@link ScrollPosition} to continue from,
+     *                 or an initial position to start at the first row.
+     * @param sort     the sort order; the entity ID is appended as tie-breaker.
+     * @param limit    the maximum number of products to return.
+     * @return a {@link Window} of {@link Product} domain objects.
+     *
+     * <p>Unlike {@link #findAll(ProductFilter, Pageable)}, this translates the position into a
+     * {@code WHERE (sortKey, id) > (?, ?)} predicate instead of an {@code OFFSET},
+     * and never issues a {@code count(*)} query, so the cost of a page does not
+     * depend on how deep into the table it is.</p>
      */
     @Override
-    public Page<Product> findAll(Pageable pageable) {
-        return jpaProductRepository.findAll(pageable)
+    public Window<Product> findAll(ProductFilter filter, ScrollPosition position, Sort sort, int limit) {
+        return jpaProductRepository.findBy(
+                        ProductSpecifications.matching(filter),
+                        query -> query.sortBy(sort).limit(limit).scroll(position))
                 .map(productEntityMapper::toProduct);
     }
 
@@ -70,6 +179,43 @@ public class ProductRepository implements IProductRepository {
                 .map(productEntityMapper::toProduct);
     }
 
+    /**
+     * Finds a product by its unique identifier, reading only some of its columns.
+     *
+     * @param id     the UUID of the product to search for.
+     * @param fields the product properties to read.
+     * @return an {@link Optional} with the row mapping each requested property to its value,
+     *         or empty if not found.
+     */
+    @Override
+    public Optional<Map<String, Object>> findById(UUID id, List<String> fields) {
+        return jpaProductRepository.findProjectedById(id, fields);
+    }
+
+    /**
+     * Finds the products with the given UUIDs.
+     *
+     * @param ids the UUIDs of the products to search for.
+     * @return the {@link Product} domain objects found, in no particular order.
+     *         Unknown UUIDs are ignored.
+     *
+     * <p>Resolved with one {@code IN} query per {@code products.lookup.chunk-size} UUIDs, so that
+     * large requests neither exceed the driver's limits nor produce a distinct statement per size.</p>
+     */
+    @Override
+    public List<Product> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty())
+            return List.of();
+
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        List<Product> products = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += lookupChunkSize) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + lookupChunkSize, distinctIds.size()));
+            jpaProductRepository.findAllById(chunk).forEach(entity -> products.add(productEntityMapper.toProduct(entity)));
+        }
+        return products;
+    }
+
     /**
      * Persists a new or existing product in the database.
      *
@@ -91,15 +237,123 @@ public class ProductRepository implements IProductRepository {
     }
 
     /**
-     * Deletes a product from the database by its UUID.
+     * Persists a list of new or existing products in a single persistence context.
+     *
+     * @param products the {@link Product} domain objects to save. Products with an ID
+     *                 must already exist in the database.
+     * @return the persisted {@link Product} domain objects, in the same order.
+     *
+     * <p>Existing rows are loaded with a single {@code IN} query and updated in place,
+     * so no per-row {@code SELECT} is issued by the merge. New rows are only persisted;
+     * the actual {@code INSERT}/{@code UPDATE} statements are sent as JDBC batches
+     * ({@code hibernate.jdbc.batch_size}) by a flush before returning, so that the returned
+     * products carry the versions incremented by those updates.</p>
+     */
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        List<UUID> ids = products.stream()
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<UUID, ProductEntity> existingEntities = jpaProductRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        List<ProductEntity> productEntities = products.stream()
+                .map(product -> {
+                    ProductEntity existingEntity = existingEntities.get(product.getId());
+                    if (existingEntity == null)
+                        return productEntityMapper.toProductEntity(product);
+                    productEntityMapper.updateProductEntity(product, existingEntity);
+                    return existingEntity;
+                })
+                .toList();
+
+        return jpaProductRepository.saveAllAndFlush(productEntities).stream()
+                .map(productEntityMapper::toProduct)
+                .toList();
+    }
+
+    /**
+     * Overwrites the values of an existing product with a single {@code UPDATE} statement.
+     *
+     * @param product the {@link Product} domain object holding the ID and the new values. If its
+     *                {@code version} is set, the row is only updated while it still has that version.
+     *                On success, its {@code version} is set to the version after the update.
+     * @return the number of rows updated: {@code 1} if the product exists (with the expected version),
+     *         {@code 0} otherwise.
+     *
+     * <p>Unlike {@link #save(Product)}, no {@code SELECT} is issued to merge the detached
+     * entity, and no existence check is required beforehand. The version check and the version
+     * increment are part of the same {@code UPDATE}, so two concurrent writers cannot both match.
+     * The version is incremented even when the new values equal the stored ones, so every successful
+     * update yields a new {@code ETag}. After an unconditional update, the new version is read with a
+     * plain {@code SELECT}, as the row stays locked by the {@code UPDATE} until the surrounding
+     * transaction ends.</p>
+     */
+    @Override
+    public int updateById(Product product) {
+        if (product.getVersion() != null) {
+            int updated = jpaProductRepository.updateByIdAndVersion(
+                    product.getId(),
+                    product.getVersion(),
+                    product.getName(),
+                    product.getDescription(),
+                    product.getStock(),
+                    product.getBasePrice(),
+                    product.getCostPrice());
+            if (updated > 0)
+                product.setVersion(product.getVersion() + 1);
+            return updated;
+        }
+
+        int updated = jpaProductRepository.updateById(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getStock(),
+                product.getBasePrice(),
+                product.getCostPrice());
+        if (updated > 0)
+            product.setVersion(jpaProductRepository.findVersionById(product.getId()).orElseThrow());
+        return updated;
+    }
+
+    /**
+     * Adds a delta to the stock of a product with a single conditional {@code UPDATE} statement.
      *
-     * @param id the UUID of the product to delete.
+     * @param id    the UUID of the product to adjust.
+     * @param delta the number of units to add (negative to remove units).
+     * @return the stock after the adjustment, or empty if the product does not exist
+     *         or the adjustment would make its stock negative.
      *
-     * <p>Delegates the operation directly to the JPA repository.</p>
+     * <p>The new value is computed by the database ({@code stock = stock + ?}) and the
+     * {@code stock + ? >= 0} guard is evaluated on the row being updated, so the stock is never read
+     * beforehand, no {@code SELECT ... FOR UPDATE} is needed and concurrent adjustments never lose updates.
+     * The resulting stock is then read with a plain {@code SELECT}: the row is already locked by the
+     * {@code UPDATE} until the surrounding transaction ends, so it cannot have changed in between.</p>
      */
     @Override
-    public void deleteById(UUID id) {
-        jpaProductRepository.deleteById(id);
+    public Optional<Long> adjustStock(UUID id, long delta) {
+        if (jpaProductRepository.adjustStock(id, delta) == 0)
+            return Optional.empty();
+        return jpaProductRepository.findStockById(id);
+    }
+
+    /**
+     * Deletes a product from the database by its UUID with a single {@code DELETE} statement.
+     *
+     * @param id      the UUID of the product to delete.
+     * @param version the version the product must still have, or {@code null} to delete any version.
+     * @return {@code true} if a row was removed, {@code false} if no product has that UUID (and version).
+     *
+     * <p>Unlike {@code JpaRepository#deleteById}, the entity is not loaded before being removed, and the
+     * version check is part of the {@code DELETE} itself.</p>
+     */
+    @Override
+    public boolean deleteById(UUID id, Long version) {
+        if (version != null)
+            return jpaProductRepository.deleteProductByIdAndVersion(id, version) > 0;
+        return jpaProductRepository.deleteProductById(id) > 0;
     }
 
     /**
@@ -115,4 +369,52 @@ public class ProductRepository implements IProductRepository {
         return jpaProductRepository.existsById(id);
     }
 
+    /**
+     * Returns which of the given UUIDs belong to existing products.
+     *
+     * @param ids the UUIDs to check.
+     * @return the subset of {@code ids} that exist in the database.
+     *
+     * <p>Resolved with a single {@code IN} query selecting only the ID column.</p>
+     */
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty())
+            return Set.of();
+        return jpaProductRepository.findIdsByIdIn(ids);
+    }
+
+    /**
+     * Passes every product in the database to the given action, one row at a time.
+     *
+     * @param action the callback invoked for each {@link Product}, in ID order.
+     *
+     * <p>Bypasses JPA and reads a forward-only, read-only JDBC result set with
+     * {@code products.export.fetch-size}, so rows are neither buffered by the driver nor
+     * attached to a persistence context. Memory use is therefore constant regardless of the
+     * table size. The connection is held until the last row has been consumed.</p>
+     */
+    @Override
+    public void forEach(Consumer<Product> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT id, name, description, stock, base_price, cost_price, version FROM tbl_products ORDER BY id",
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(exportFetchSize);
+                    return statement;
+                },
+                resultSet -> {
+                    action.accept(new Product(
+                            UuidBytes.fromBytes(resultSet.getBytes("id")),
+                            resultSet.getString("name"),
+                            resultSet.getString("description"),
+                            resultSet.getLong("stock"),
+                            resultSet.getDouble("base_price"),
+                            resultSet.getDouble("cost_price"),
+                            resultSet.getLong("version")));
+                });
+    }
+
 }
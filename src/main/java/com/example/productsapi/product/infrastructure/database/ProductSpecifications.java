@@ -0,0 +1,57 @@
+package com.example.productsapi.product.infrastructure.database;
+
+import com.example.productsapi.product.domain.ProductFilter;
+import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates a {@link ProductFilter} into a JPA {@link Specification} over {@link ProductEntity}.
+ * <p>
+ * Every bound becomes a plain {@code >=}/{@code <=} comparison on a single column, so MySQL can
+ * resolve it as a range scan on the matching {@code idx_products_*} index declared on the entity.
+ * The margin is compared on the generated {@code margin} column rather than on
+ * {@code basePrice - costPrice}, which no index could serve.
+ * </p>
+ */
+final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * @param filter the ranges to apply; {@code null} bounds are skipped.
+     * @return the conjunction of all bounds, or {@code null} (no restriction) if none is set.
+     */
+    static Specification<ProductEntity> matching(ProductFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addRange(predicates, criteriaBuilder, root.get("stock"), filter.getMinStock(), filter.getMaxStock());
+            addRange(predicates, criteriaBuilder, root.get("basePrice"), filter.getMinBasePrice(), filter.getMaxBasePrice());
+            addRange(predicates, criteriaBuilder, root.get("costPrice"), filter.getMinCostPrice(), filter.getMaxCostPrice());
+            addRange(predicates, criteriaBuilder, root.get("margin"), filter.getMinMargin(), filter.getMaxMargin());
+            return predicates.isEmpty() ? null : criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static <T extends Comparable<? super T>> void addRange(List<Predicate> predicates,
+                                                                   CriteriaBuilder criteriaBuilder,
+                                                                   Expression<T> attribute,
+                                                                   T min,
+                                                                   T max) {
+        if (min != null && min.equals(max)) {
+            predicates.add(criteriaBuilder.equal(attribute, min));
+            return;
+        }
+        if (min != null)
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(attribute, min));
+        if (max != null)
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(attribute, max));
+    }
+
+}
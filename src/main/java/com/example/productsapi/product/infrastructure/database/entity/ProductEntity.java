@@ -1,17 +1,32 @@
 package com.example.productsapi.product.infrastructure.database.entity;
 
+import com.example.productsapi.common.infrastructure.config.HibernateCacheConfig;
+import com.example.productsapi.common.infrastructure.database.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "tbl_products")
+@Table(name = "tbl_products", indexes = {
+        @Index(name = "idx_products_stock", columnList = "stock, id"),
+        @Index(name = "idx_products_base_price", columnList = "basePrice, id"),
+        @Index(name = "idx_products_cost_price", columnList = "costPrice, id"),
+        @Index(name = "idx_products_margin", columnList = "margin, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PRODUCT_ENTITY_REGION)
 @Getter @Setter
 public final class ProductEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name="id", length=16, nullable=false, updatable=false)
     private UUID id;
     @Column(name="name", nullable=false)
     private String name;
@@ -23,5 +38,14 @@ public final class ProductEntity {
     private Double basePrice;
     @Column(name="costPrice", nullable=false)
     private Double costPrice;
+    /**
+     * {@code basePrice - costPrice}, computed by the database so that margin filters can use an index.
+     */
+    @Column(name="margin", insertable=false, updatable=false,
+            columnDefinition="double generated always as (base_price - cost_price)")
+    private Double margin;
+    @Version
+    @Column(name="version", nullable=false)
+    private Long version;
 
 }
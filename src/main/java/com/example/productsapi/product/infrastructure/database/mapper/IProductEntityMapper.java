@@ -2,14 +2,23 @@ package com.example.productsapi.product.infrastructure.database.mapper;
 
 import com.example.productsapi.product.domain.Product;
 import com.example.productsapi.product.infrastructure.database.entity.ProductEntity;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedSourcePolicy = ReportingPolicy.ERROR)
 public interface IProductEntityMapper {
 
+    @Mapping(target = "margin", ignore = true)
     ProductEntity toProductEntity(Product product);
+    @BeanMapping(ignoreUnmappedSourceProperties = "margin")
     Product toProduct(ProductEntity productEntity);
+    @Mapping(target = "margin", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @BeanMapping(ignoreUnmappedSourceProperties = "version")
+    void updateProductEntity(Product product, @MappingTarget ProductEntity productEntity);
 
 }
@@ -0,0 +1,189 @@
+package com.example.productsapi.product.infrastructure.database.reactive;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.id.UuidBytes;
+import com.example.productsapi.common.id.UuidV7;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnR2dbcPersistence;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.repository.IReactiveProductRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive infrastructure adapter that implements {@link IReactiveProductRepository}
+ * on top of R2DBC (non-blocking MySQL driver).
+ * <p>
+ * Works on the same {@code tbl_products} table as the JPA adapter, so both stacks can be
+ * switched without migrating data. Statements are written in SQL and executed through
+ * Spring's {@link DatabaseClient}.
+ * </p>
+ *
+ * <p><b>Responsibilities:</b></p>
+ * <ul>
+ *   <li>Maps rows to {@link Product} domain objects and {@link Product} fields to bind parameters.</li>
+ *   <li>Generates time-ordered UUIDv7 identifiers for new products, like the JPA adapter.</li>
+ *   <li>Translates {@link Pageable} sort properties into whitelisted column names.</li>
+ * </ul>
+ *
+ * <p><b>Design note:</b> Only registered when {@code products.persistence.type=r2dbc}.</p>
+ */
+@Repository
+@ConditionalOnR2dbcPersistence
+@RequiredArgsConstructor
+public class R2dbcProductRepository implements IReactiveProductRepository {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, name, description, stock, base_price, cost_price, version FROM tbl_products";
+
+    /**
+     * Sortable product properties mapped to their column names.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "stock", "stock",
+            "basePrice", "base_price",
+            "costPrice", "cost_price"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Retrieves one page of products.
+     *
+     * @param pageable the pagination and sorting configuration.
+     * @return a {@link Flux} emitting the {@link Product} domain objects of the page.
+     */
+    @Override
+    public Flux<Product> findAll(Pageable pageable) {
+        String sql = SELECT_COLUMNS + orderBy(pageable.getSort());
+        if (pageable.isPaged())
+            sql += " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset();
+
+        return databaseClient.sql(sql)
+                .map(this::toProduct)
+                .all();
+    }
+
+    /**
+     * Counts all products.
+     *
+     * @return a {@link Mono} emitting the total number of products.
+     */
+    @Override
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM tbl_products")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Finds a product by its unique identifier.
+     *
+     * @param id the UUID of the product to search for.
+     * @return a {@link Mono} emitting the {@link Product}, or empty if not found.
+     */
+    @Override
+    public Mono<Product> findById(UUID id) {
+        return databaseClient.sql(SELECT_COLUMNS + " WHERE id = :id")
+                .bind("id", UuidBytes.toBytes(id))
+                .map(this::toProduct)
+                .one();
+    }
+
+    /**
+     * Inserts a new product, assigning it a UUIDv7 identifier.
+     *
+     * @param product the {@link Product} domain object to insert.
+     * @return a {@link Mono} emitting the inserted {@link Product} with its generated ID.
+     */
+    @Override
+    public Mono<Product> save(Product product) {
+        UUID id = UuidV7.randomUuid();
+        return databaseClient.sql("INSERT INTO tbl_products (id, name, description, stock, base_price, cost_price, version) "
+                        + "VALUES (:id, :name, :description, :stock, :basePrice, :costPrice, 0)")
+                .bind("id", UuidBytes.toBytes(id))
+                .bind("name", product.getName())
+                .bind("description", product.getDescription())
+                .bind("stock", product.getStock())
+                .bind("basePrice", product.getBasePrice())
+                .bind("costPrice", product.getCostPrice())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(new Product(id, product.getName(), product.getDescription(),
+                        product.getStock(), product.getBasePrice(), product.getCostPrice(), 0L));
+    }
+
+    /**
+     * Overwrites the values of an existing product with a single {@code UPDATE} statement.
+     *
+     * @param product the {@link Product} domain object holding the ID and the new values.
+     * @return a {@link Mono} emitting the number of rows updated ({@code 0} if the product does not exist).
+     */
+    @Override
+    public Mono<Integer> updateById(Product product) {
+        return databaseClient.sql("UPDATE tbl_products SET name = :name, description = :description, "
+                        + "stock = :stock, base_price = :basePrice, cost_price = :costPrice, version = version + 1 WHERE id = :id")
+                .bind("id", UuidBytes.toBytes(product.getId()))
+                .bind("name", product.getName())
+                .bind("description", product.getDescription())
+                .bind("stock", product.getStock())
+                .bind("basePrice", product.getBasePrice())
+                .bind("costPrice", product.getCostPrice())
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    /**
+     * Deletes a product by its UUID with a single {@code DELETE} statement.
+     *
+     * @param id the UUID of the product to delete.
+     * @return a {@link Mono} emitting {@code true} if a row was removed, {@code false} otherwise.
+     */
+    @Override
+    public Mono<Boolean> deleteById(UUID id) {
+        return databaseClient.sql("DELETE FROM tbl_products WHERE id = :id")
+                .bind("id", UuidBytes.toBytes(id))
+                .fetch()
+                .rowsUpdated()
+                .map(rowsUpdated -> rowsUpdated > 0);
+    }
+
+    private Product toProduct(Readable row) {
+        return new Product(
+                UuidBytes.fromBytes(row.get("id", byte[].class)),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("stock", Long.class),
+                row.get("base_price", Double.class),
+                row.get("cost_price", Double.class),
+                row.get("version", Long.class));
+    }
+
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted())
+            return "";
+
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null)
+                        throw new InvalidDataEntryException("Unsupported sort property '" + order.getProperty() + "'");
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.productsapi.product.infrastructure.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The JSON encoding of one version of a product, ready to be written as is.
+ * <p>
+ * Holds the UTF-8 bytes of the serialized {@code ProductDTOResponse}, and their gzip compression,
+ * computed on first use.
+ * </p>
+ */
+public final class ProductJson {
+
+    private static final byte[] NOT_WORTH_COMPRESSING = new byte[0];
+
+    private final long version;
+    private final SerializedString json;
+    private volatile byte[] gzip;
+
+    ProductJson(long version, byte[] json) {
+        this.version = version;
+        this.json = new SerializedString(new String(json, StandardCharsets.UTF_8));
+        // Encodes the bytes once, so that every write reuses them.
+        this.json.asUnquotedUTF8();
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * The JSON, to be spliced into a document being generated.
+     */
+    SerializableString serialized() {
+        return json;
+    }
+
+    /**
+     * The UTF-8 bytes of the JSON. Shared: must not be modified.
+     */
+    public byte[] bytes() {
+        return json.asUnquotedUTF8();
+    }
+
+    /**
+     * The gzip compression of {@link #bytes()}, or {@code null} if it is not smaller than them.
+     * Shared: must not be modified.
+     */
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(bytes());
+            gzip = compressed;
+        }
+        return compressed == NOT_WORTH_COMPRESSING ? null : compressed;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.size() < bytes.length ? buffer.toByteArray() : NOT_WORTH_COMPRESSING;
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.example.productsapi.product.infrastructure.json;
+
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.event.ProductSavedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Cache of the JSON encoding of products, so that hot products are serialized once per version
+ * instead of once per response.
+ * <p>
+ * Filled by {@code GET /{id}} only, which writes the bytes, or their gzip compression, without
+ * going through Jackson once a product is cached. Pages, slices and lookups read it through
+ * {@link ProductJsonModule}, copying the JSON of the products already cached, but never fill it,
+ * so that a bulk read cannot evict the hot products from it. The export bypasses it.
+ * </p>
+ *
+ * <p><b>Freshness:</b></p>
+ * <ul>
+ *   <li>Entries are keyed by UUID and tagged with the product version. Every change to a product increments
+ *       its version, so an entry is only used for a product of the same version, and can never serve
+ *       outdated data, whichever way the product changed (stock adjustments included).</li>
+ *   <li>Entries of updated and deleted products are also evicted once the writing transaction commits
+ *       ({@link ProductSavedEvent}, {@link ProductDeletedEvent}), to free their memory early.</li>
+ * </ul>
+ *
+ * <p><b>Metrics:</b> Hits, misses and evictions are published as {@code cache.*} meters
+ * tagged {@code cache=products.json}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "products.json-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductJsonCache {
+
+    private final Cache<UUID, ProductJson> entries;
+
+    public ProductJsonCache(@Value("${products.json-cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "products.json");
+    }
+
+    /**
+     * Returns the cached JSON of a product, if it was cached for its current version.
+     *
+     * @param product the product to encode.
+     * @return its cached encoding, or {@code null} if there is none for this version.
+     */
+    public ProductJson get(ProductDTOResponse product) {
+        if (product.getId() == null || product.getVersion() == null)
+            return null;
+        ProductJson json = entries.getIfPresent(product.getId());
+        return json != null && json.version() == product.getVersion() ? json : null;
+    }
+
+    /**
+     * Caches the JSON of a product, unless a more recent version is already cached.
+     *
+     * @param product the product the JSON encodes.
+     * @param json the UTF-8 bytes of its JSON.
+     * @return the cached encoding, or {@code null} if the product has no UUID or no version.
+     */
+    public ProductJson put(ProductDTOResponse product, byte[] json) {
+        if (product.getId() == null || product.getVersion() == null)
+            return null;
+        ProductJson productJson = new ProductJson(product.getVersion(), json);
+        entries.asMap().merge(product.getId(), productJson,
+                (cached, added) -> added.version() >= cached.version() ? added : cached);
+        return productJson;
+    }
+
+    /**
+     * Evicts the JSON of an updated product.
+     *
+     * @param event the event carrying the persisted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductSaved(ProductSavedEvent event) {
+        if (!event.isCreated())
+            entries.invalidate(event.getProduct().getId());
+    }
+
+    /**
+     * Evicts the JSON of a deleted product.
+     *
+     * @param event the event carrying the UUID of the deleted product.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        entries.invalidate(event.getId());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.example.productsapi.product.infrastructure.json;
+
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Jackson module writing every {@link ProductDTOResponse} already cached by {@link ProductJsonCache}
+ * from its cached JSON.
+ * <p>
+ * Registered by Spring Boot on the application's {@code ObjectMapper}. A product whose JSON is cached
+ * for its version is written by copying the cached bytes into the document; any other product is
+ * serialized as usual. Pages, slices and lookups of hot products are thereby assembled from the cached
+ * item buffers, and only their envelope and the other products are serialized.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>The module only reads the cache, which is filled by {@code GET /{id}} alone, so that bulk reads
+ *       never evict the hot products from it.</li>
+ *   <li>Writers carrying the {@link #BYPASS} attribute (e.g. the NDJSON export, which writes every product
+ *       once) serialize every product as usual, without looking up the cache.</li>
+ *   <li>Cached products are written compactly, even when the {@code ObjectMapper} indents its output.</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "products.json-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductJsonModule extends SimpleModule {
+
+    /**
+     * {@link com.fasterxml.jackson.databind.ObjectWriter#withAttribute(Object, Object) Writer attribute}
+     * that, set to {@link Boolean#TRUE}, makes the module serialize products without the cache.
+     */
+    public static final String BYPASS = ProductJsonModule.class.getName() + ".bypass";
+
+    private final transient ProductJsonCache productJsonCache;
+
+    public ProductJsonModule(ProductJsonCache productJsonCache) {
+        super(ProductJsonModule.class.getSimpleName());
+        this.productJsonCache = productJsonCache;
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDescription,
+                                                      JsonSerializer<?> serializer) {
+                return beanDescription.getBeanClass() == ProductDTOResponse.class
+                        ? new CachedProductSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+    }
+
+    /**
+     * Writes a product from its cached JSON, if any, and with the bean serializer otherwise.
+     */
+    private final class CachedProductSerializer extends StdSerializer<ProductDTOResponse>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> beanSerializer;
+
+        CachedProductSerializer(JsonSerializer<Object> beanSerializer) {
+            super(ProductDTOResponse.class);
+            this.beanSerializer = beanSerializer;
+        }
+
+        @Override
+        public void serialize(ProductDTOResponse product, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            ProductJson json = Boolean.TRUE.equals(provider.getAttribute(BYPASS)) ? null : productJsonCache.get(product);
+            if (json == null) {
+                beanSerializer.serialize(product, generator, provider);
+                return;
+            }
+            generator.writeRawValue(json.serialized());
+        }
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            JsonSerializer<?> contextual = beanSerializer instanceof ContextualSerializer contextualSerializer
+                    ? contextualSerializer.createContextual(provider, property)
+                    : beanSerializer;
+            return contextual == beanSerializer ? this : new CachedProductSerializer(asObjectSerializer(contextual));
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (beanSerializer instanceof ResolvableSerializer resolvableSerializer)
+                resolvableSerializer.resolve(provider);
+        }
+
+        @SuppressWarnings("unchecked")
+        private JsonSerializer<Object> asObjectSerializer(JsonSerializer<?> serializer) {
+            return (JsonSerializer<Object>) serializer;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.productsapi.product.infrastructure.restcontroller;
+
+/**
+ * Converts between product versions and the entity tags exchanged in HTTP headers.
+ * <p>
+ * The ETag of a product is its version in quotes (e.g. {@code "3"}): any change to the product
+ * increments the version, so equal tags always denote the same representation. Its gzip-encoded
+ * representation, whose bytes differ, is tagged with a suffix (e.g. {@code "3-gzip"}), as strong
+ * tags must identify a single byte sequence.
+ * </p>
+ */
+final class ProductETags {
+
+    private static final String ANY = "*";
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    /**
+     * Version that no product ever has, used for tags that cannot match any product.
+     */
+    private static final long NO_VERSION = -1L;
+
+    private ProductETags() {
+    }
+
+    /**
+     * @param version the version of a product.
+     * @return the quoted entity tag, or {@code null} if the version is unknown.
+     */
+    static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * @param version the version of a product.
+     * @return the quoted entity tag of its gzip-encoded representation, or {@code null} if the version is unknown.
+     */
+    static String ofGzip(Long version) {
+        return version == null ? null : "\"" + version + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Extracts the expected version from an {@code If-Match} header.
+     * <p>
+     * Weak tags ({@code W/"3"}) are accepted as their strong counterpart, as intermediaries compressing
+     * responses commonly weaken the tags they forward, and so are the tags of gzip-encoded representations
+     * ({@code "3-gzip"}), which name the same version. For a list of tags, the most recent version
+     * they name is expected, since the service can only condition a write on a single version.
+     * </p>
+     *
+     * @param ifMatch the header value, possibly {@code null}.
+     * @return {@code null} if the header is absent or {@code *} (any version), otherwise the version
+     *         it names; a tag that is not a product version yields a version no product has.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank())
+            return null;
+
+        long expected = NO_VERSION;
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals(ANY))
+                return null;
+            expected = Math.max(expected, version(tag));
+        }
+        return expected;
+    }
+
+    private static long version(String tag) {
+        if (tag.startsWith("W/"))
+            tag = tag.substring(2);
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            return NO_VERSION;
+
+        String opaqueTag = tag.substring(1, tag.length() - 1);
+        if (opaqueTag.endsWith(GZIP_SUFFIX))
+            opaqueTag = opaqueTag.substring(0, opaqueTag.length() - GZIP_SUFFIX.length());
+        try {
+            long version = Long.parseLong(opaqueTag);
+            return version < 0 ? NO_VERSION : version;
+        } catch (NumberFormatException e) {
+            return NO_VERSION;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.productsapi.product.infrastructure.restcontroller;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.product.application.IProductImportService;
+import com.example.productsapi.product.application.dto.response.ProductImportDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * REST controller that handles bulk imports of products from NDJSON or CSV files.
+ * <p>
+ * Uploads are stored in a temporary file and imported in the background, so the request
+ * returns as soon as the file has been received. The progress of an import is then
+ * followed through its status resource.
+ * </p>
+ */
+@RestController
+@ConditionalOnJpaPersistence
+@RequestMapping("/api/v1/products/imports")
+@Validated
+@RequiredArgsConstructor
+public class ProductImportsController {
+
+    private final IProductImportService productImportService;
+
+    /**
+     * Uploads a file and starts importing its products.
+     *
+     * @param file   the NDJSON or CSV file (multipart part {@code file}).
+     * @param format the format of the file ({@code NDJSON} or {@code CSV}); inferred from the
+     *               file name or content type when omitted.
+     * @return a {@link ResponseEntity} containing the initial {@link ProductImportDTOResponse},
+     *         with the URI of the import status in the {@code Location} header.
+     * @throws IOException if the upload cannot be stored.
+     *
+     * @response 202 The file was received and the import started.
+     * @response 400 If the file is missing or empty, or the format is unknown.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImportDTOResponse> start(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) ProductImportFormat format) throws IOException {
+        if (file.isEmpty())
+            throw new InvalidDataEntryException("Import file is empty");
+
+        ProductImportFormat importFormat = format != null
+                ? format
+                : ProductImportFormat.from(file.getOriginalFilename(), file.getContentType());
+
+        Path uploadedFile = Files.createTempFile("product-import-", "." + importFormat.name().toLowerCase());
+        file.transferTo(uploadedFile);
+
+        ProductImportDTOResponse productImportDTOResponse =
+                productImportService.start(uploadedFile, file.getOriginalFilename(), importFormat);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(productImportDTOResponse.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(productImportDTOResponse);
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param id the UUID of the import (must not be null).
+     * @return a {@link ResponseEntity} containing the current {@link ProductImportDTOResponse}.
+     *
+     * @response 200 Returns the status, counters, throughput and rejected rows of the import.
+     * @response 404 If no import is found with the specified ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductImportDTOResponse> getById(@PathVariable @NotNull UUID id) {
+        return ResponseEntity.ok(productImportService.getById(id));
+    }
+
+}
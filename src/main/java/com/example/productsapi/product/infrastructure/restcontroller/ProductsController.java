@@ -1,22 +1,52 @@
 package com.example.productsapi.product.infrastructure.restcontroller;
 
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.common.infrastructure.config.ConditionalOnJpaPersistence;
+import com.example.productsapi.common.infrastructure.database.routing.ReadWriteRoutingDataSource;
 import com.example.productsapi.product.application.IProductService;
 import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.ProductFilterDTORequest;
+import com.example.productsapi.product.application.dto.request.StockAdjustmentDTORequest;
 import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.BatchProductDTOResponse;
 import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductLookupDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductSliceDTOResponse;
+import com.example.productsapi.product.application.dto.response.ProductStockDTOResponse;
+import com.example.productsapi.product.infrastructure.json.ProductJson;
+import com.example.productsapi.product.infrastructure.json.ProductJsonCache;
+import com.example.productsapi.product.infrastructure.json.ProductJsonModule;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -27,46 +57,282 @@ import java.util.UUID;
  * </p>
  */
 @RestController
+@ConditionalOnJpaPersistence
 @RequestMapping("/api/v1/products")
 @Validated
 @RequiredArgsConstructor
 public class ProductsController {
 
     private final IProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ProductJsonCache> productJsonCache;
 
     /**
-     * Retrieves a paginated and sorted list of all products.
+     * Whether {@link #getById(UUID, String)} sends the cached gzip encoding to clients accepting it.
+     */
+    @Value("${products.json-cache.gzip:true}")
+    private boolean gzipEnabled;
+
+    /**
+     * Retrieves a paginated and sorted list of all products, optionally filtered.
+     * <p>
+     * Filters are bound from the query string ({@code minStock}, {@code maxStock}, {@code minBasePrice},
+     * {@code maxBasePrice}, {@code minCostPrice}, {@code maxCostPrice}, {@code minMargin}, {@code maxMargin})
+     * and evaluated by the database, on indexed columns.
+     * </p>
+     * <p>
+     * {@code totalElements} and {@code totalPages} come from a short-lived cache of counts rather than a
+     * {@code count(*)} per request, so they may briefly lag behind recent changes to filtered listings;
+     * {@code exactCount=true} forces a fresh count.
+     * </p>
      *
-     * @param pageable the pagination and sorting configuration.
-     *                 Defaults to page size 20 and sorted ascending by ID.
+     * @param filter     the optional inclusive ranges the products must fall within.
+     * @param pageable   the pagination and sorting configuration.
+     *                   Defaults to page size 20 and sorted ascending by ID.
+     * @param exactCount whether to count the matching products instead of using the cached total.
      * @return a {@link ResponseEntity} containing a {@link Page} of {@link ProductDTOResponse}.
      *
      * @response 200 Successfully retrieved the paginated list of products.
+     * @response 400 If a filter value is negative, malformed or its range is inverted.
      * @response 404 If there are no products available (handled by {@code EmptyProductsListException}).
      */
     @GetMapping
     public ResponseEntity<Page<ProductDTOResponse>> getAll(
+            @Valid ProductFilterDTORequest filter,
             @PageableDefault(size = 20)
             @SortDefault.SortDefaults({
                     @SortDefault(sort = "id", direction = Sort.Direction.ASC)
             })
-            Pageable pageable) {
-        return ResponseEntity.ok(productService.getAll(pageable));
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount) {
+        return ResponseEntity.ok(productService.getAll(filter, pageable, exactCount));
+    }
+
+    /**
+     * Retrieves a paginated list of products with only the selected properties (sparse fieldset).
+     * <p>
+     * Selected instead of {@link #getAll(ProductFilterDTORequest, Pageable, boolean)} whenever the {@code fields}
+     * parameter is present, e.g. {@code ?fields=id,name,basePrice}. Only the columns of those properties
+     * are read from the database and only they are serialized, which keeps list views from paying for
+     * large {@code description} values they do not show. Filters, paging and sorting work as in
+     * {@link #getAll(ProductFilterDTORequest, Pageable, boolean)}; sorting on a property that is not selected is allowed.
+     * </p>
+     *
+     * @param fields   the comma-separated properties to return
+     *                 ({@code id, name, description, stock, basePrice, costPrice, version}).
+     * @param filter   the optional inclusive ranges the products must fall within.
+     * @param pageable the pagination and sorting configuration.
+     *                 Defaults to page size 20 and sorted ascending by ID.
+     * @param exactCount whether to count the matching products instead of using the cached total.
+     * @return a {@link ResponseEntity} containing a {@link Page} of partial products.
+     *
+     * @response 200 Successfully retrieved the paginated list of products.
+     * @response 400 If a field is unknown or none is given, or a filter is invalid.
+     * @response 404 If there are no products available (handled by {@code EmptyProductsListException}).
+     */
+    @GetMapping(params = {"fields", "!after"})
+    public ResponseEntity<Page<Map<String, Object>>> getAllProjected(
+            @RequestParam List<String> fields,
+            @Valid ProductFilterDTORequest filter,
+            @PageableDefault(size = 20)
+            @SortDefault.SortDefaults({
+                    @SortDefault(sort = "id", direction = Sort.Direction.ASC)
+            })
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount) {
+        return ResponseEntity.ok(productService.getAllProjected(filter, fields, pageable, exactCount));
+    }
+
+    /**
+     * Retrieves a slice of products using keyset (cursor-based) pagination.
+     * <p>
+     * Selected instead of {@link #getAll(ProductFilterDTORequest, Pageable, boolean)} whenever the {@code after} parameter is present.
+     * Send {@code after=} (empty) for the first slice and then the {@code nextCursor} of each
+     * response, keeping the same {@code sort}. No total count is computed, so the latency of a
+     * slice does not grow with its depth. Slices always hold whole products: combining {@code after}
+     * with {@code fields} is rejected rather than silently ignoring the fields.
+     * </p>
+     *
+     * @param filter the optional inclusive ranges the products must fall within, as in {@link #getAll}.
+     *               Must be repeated unchanged with every cursor.
+     * @param after the opaque cursor returned by the previous slice (empty for the first one).
+     * @param size  the maximum number of products in the slice (1 to 100, default 20).
+     * @param sort  the sorting configuration. Defaults to ascending by ID; the ID is always used as tie-breaker.
+     * @param fields must be absent: sparse fieldsets are not supported by keyset pagination.
+     * @return a {@link ResponseEntity} containing a {@link ProductSliceDTOResponse}.
+     *
+     * @response 200 Successfully retrieved the slice (possibly empty at the end of the scroll).
+     * @response 400 If the cursor is invalid, does not match the sort, the sort property is unsupported,
+     *               a filter is invalid, or {@code fields} is present.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<ProductSliceDTOResponse> getAllAfter(
+            @Valid ProductFilterDTORequest filter,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @SortDefault(sort = "id", direction = Sort.Direction.ASC) Sort sort,
+            @RequestParam(required = false) List<String> fields) {
+        if (fields != null)
+            throw new InvalidDataEntryException("The fields parameter is not supported with after");
+        return ResponseEntity.ok(productService.getAllAfter(filter, after, sort, size));
+    }
+
+    /**
+     * Searches products by free text in their name and description.
+     * <p>
+     * Matches are ranked by relevance (a term found in the name counts more than one found in the
+     * description), so any {@code sort} parameter is ignored. The query is resolved against an
+     * in-memory index and only the products of the requested page are read from the database.
+     * </p>
+     *
+     * @param q        the text to search for; a product matches if it contains any of its words.
+     * @param pageable the pagination configuration. Defaults to page size 20.
+     * @return a {@link ResponseEntity} containing a {@link Page} of {@link ProductDTOResponse}.
+     *
+     * @response 200 Successfully retrieved the page of matches (possibly empty).
+     * @response 400 If {@code q} is missing or blank.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductDTOResponse>> search(
+            @RequestParam @NotBlank String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(productService.search(q, pageable));
+    }
+
+    /**
+     * Exports the whole catalog as newline-delimited JSON (one product per line).
+     * <p>
+     * The body is written while products are read from the database, from a separate
+     * thread ({@code spring.mvc.async.request-timeout} bounds its duration). Neither the
+     * catalog nor any page of it is held in memory, and no {@code count(*)} is run, so
+     * downstream systems can pull every product in a single request instead of walking pages.
+     * </p>
+     * <p>
+     * A client pinned to the primary database because it wrote recently is exported from the primary
+     * as well: the pin is carried over to the thread writing the body.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} streaming {@code application/x-ndjson}.
+     *
+     * @response 200 Streams every product, ordered by ID (an empty body if there are none).
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAll() {
+        ObjectWriter productWriter = objectMapper.writerFor(ProductDTOResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withAttribute(ProductJsonModule.BYPASS, Boolean.TRUE);
+
+        boolean pinnedToPrimary = ReadWriteRoutingDataSource.isPinnedToPrimary();
+        StreamingResponseBody body = outputStream -> {
+            if (pinnedToPrimary)
+                ReadWriteRoutingDataSource.pinToPrimary();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                productService.exportAll(productDTOResponse -> {
+                    try {
+                        productWriter.writeValue(generator, productDTOResponse);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                ReadWriteRoutingDataSource.unpin();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * Retrieves a single product by its unique identifier.
      *
+     * <p>
+     * The response carries the version of the product as its {@code ETag}. When the request
+     * sends that tag back in {@code If-None-Match}, Spring MVC answers {@code 304} without
+     * writing (or serializing) the body, so clients can revalidate cached copies cheaply.
+     * </p>
+     * <p>
+     * The body is written from the JSON cached by {@link ProductJsonCache} for this version of the product,
+     * without running Jackson, and gzip-compressed from the same cache when the client accepts it. The gzip
+     * encoding carries its own tag ({@code "3-gzip"}), as its bytes differ from the identity encoding's.
+     * </p>
+     *
      * @param id the UUID of the product to retrieve (must not be null).
-     * @return a {@link ResponseEntity} containing the {@link ProductDTOResponse}.
+     * @param acceptEncoding the content codings accepted by the client, if any.
+     * @return a {@link ResponseEntity} containing the {@link ProductDTOResponse} or its JSON encoding.
      *
      * @response 200 Successfully found and returned the product.
+     * @response 304 If the product still matches the {@code If-None-Match} tag.
      * @response 400 If the provided UUID format is invalid.
      * @response 404 If no product is found with the specified ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDTOResponse> getById(@PathVariable @NotNull UUID id) {
-        return ResponseEntity.ok(productService.getById(id));
+    public ResponseEntity<?> getById(@PathVariable @NotNull UUID id,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                     String acceptEncoding) throws IOException {
+        ProductDTOResponse productDTOResponse = productService.getById(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        ProductJsonCache jsonCache = productJsonCache.getIfAvailable();
+        ProductJson json = jsonCache == null ? null : jsonCache.get(productDTOResponse);
+        if (json == null && jsonCache != null)
+            json = jsonCache.put(productDTOResponse, objectMapper.writeValueAsBytes(productDTOResponse));
+        if (json == null)
+            return response.eTag(ProductETags.of(productDTOResponse.getVersion())).body(productDTOResponse);
+
+        response.contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        byte[] gzip = gzipEnabled && acceptsGzip(acceptEncoding) ? json.gzip() : null;
+        if (gzip != null)
+            return response.eTag(ProductETags.ofGzip(productDTOResponse.getVersion()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzip);
+        return response.eTag(ProductETags.of(productDTOResponse.getVersion())).body(json.bytes());
+    }
+
+    /**
+     * Retrieves only the selected properties of a product, e.g. {@code ?fields=id,name,basePrice}.
+     * <p>
+     * Selected instead of {@link #getById(UUID, String)} whenever the {@code fields} parameter is present.
+     * Only the requested columns are read; the response is not cached and carries no {@code ETag}.
+     * </p>
+     *
+     * @param id     the UUID of the product to retrieve (must not be null).
+     * @param fields the comma-separated properties to return.
+     * @return a {@link ResponseEntity} containing the partial product.
+     *
+     * @response 200 Successfully found and returned the product.
+     * @response 400 If the UUID format is invalid, or a field is unknown or none is given.
+     * @response 404 If no product is found with the specified ID.
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getByIdProjected(
+            @PathVariable @NotNull UUID id,
+            @RequestParam List<String> fields) {
+        return ResponseEntity.ok(productService.getByIdProjected(id, fields));
+    }
+
+    /**
+     * Retrieves many products by their UUIDs in a single request.
+     * <p>
+     * Meant for clients resolving the lines of a cart or an order, which would otherwise issue one
+     * {@code GET /{id}} per line. Cached products are served from memory and the others are loaded
+     * together, with a few {@code IN} queries.
+     * </p>
+     *
+     * @param ids the UUIDs to resolve (1 to {@code products.lookup.max-ids}, 500 by default), possibly repeated.
+     * @return a {@link ResponseEntity} containing one item per requested UUID, in request order,
+     *         with {@code found = false} for the products that do not exist.
+     *
+     * @response 200 The UUIDs were resolved, whether or not every product exists.
+     * @response 400 If the list is empty, too large, or holds a null UUID.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ProductLookupDTOResponse> lookup(@RequestBody @NotEmpty List<UUID> ids) {
+        return ResponseEntity.ok(productService.lookup(ids));
     }
 
     /**
@@ -85,42 +351,154 @@ public class ProductsController {
         ProductDTOResponse productDTOResponse = productService.create(createProductDTORequest);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
+                .eTag(ProductETags.of(productDTOResponse.getVersion()))
                 .body(productDTOResponse);
     }
 
+    /**
+     * Creates many products in a single request.
+     *
+     * @param createProductDTORequests the list of products to create (1 to 5000 items).
+     *                                 Each item is validated individually.
+     * @return a {@link ResponseEntity} containing a {@link BatchProductDTOResponse} with the outcome of every item.
+     *
+     * @response 201 All products were created.
+     * @response 207 Some items failed; see the {@code FAILED} items of the report.
+     * @response 400 If the list is empty or exceeds the maximum batch size.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchProductDTOResponse> createAll(
+            @RequestBody @NotEmpty @Size(max = 5000) List<CreateProductDTORequest> createProductDTORequests) {
+        BatchProductDTOResponse batchProductDTOResponse = productService.createAll(createProductDTORequests);
+        return ResponseEntity
+                .status(batchProductDTOResponse.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(batchProductDTOResponse);
+    }
+
+    /**
+     * Creates or updates many products in a single request.
+     *
+     * @param updateProductDTORequests the list of products to upsert (1 to 5000 items). Items with an
+     *                                 {@code id} update that product; items without one are created.
+     * @return a {@link ResponseEntity} containing a {@link BatchProductDTOResponse} with the outcome of every item.
+     *
+     * @response 200 All products were created or updated.
+     * @response 207 Some items failed; see the {@code FAILED} items of the report.
+     * @response 400 If the list is empty or exceeds the maximum batch size.
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<BatchProductDTOResponse> upsertAll(
+            @RequestBody @NotEmpty @Size(max = 5000) List<UpdateProductDTORequest> updateProductDTORequests) {
+        BatchProductDTOResponse batchProductDTOResponse = productService.upsertAll(updateProductDTORequests);
+        return ResponseEntity
+                .status(batchProductDTOResponse.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(batchProductDTOResponse);
+    }
+
     /**
      * Updates an existing product by its UUID.
+     * <p>
+     * Send the {@code ETag} of the copy being edited in {@code If-Match} to make the update
+     * conditional: it is then only applied if nobody changed the product in the meantime.
+     * </p>
      *
      * @param id                      the UUID of the product to update (must not be null).
+     * @param ifMatch                 the optional {@code If-Match} header ({@code *} matches any version).
      * @param updateProductDTORequest the request body containing the new values for the product.
      *                                Must be valid according to {@link UpdateProductDTORequest} constraints.
-     * @return a {@link ResponseEntity} containing the updated {@link ProductDTOResponse}.
+     * @return a {@link ResponseEntity} containing the updated {@link ProductDTOResponse} and its new {@code ETag}.
      *
      * @response 200 Successfully updated the product.
      * @response 400 If validation fails or data is invalid.
      * @response 404 If the product to update is not found.
+     * @response 412 If the product no longer matches the {@code If-Match} tag; nothing is updated.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ProductDTOResponse> update(
             @PathVariable @NotNull UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateProductDTORequest updateProductDTORequest) {
-        return ResponseEntity.ok(productService.update(id, updateProductDTORequest));
+        ProductDTOResponse productDTOResponse =
+                productService.update(id, updateProductDTORequest, ProductETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(productDTOResponse.getVersion()))
+                .body(productDTOResponse);
+    }
+
+    /**
+     * Adds a delta to the stock of a product (negative to take units out, e.g. for an order line).
+     * <p>
+     * The adjustment is applied atomically by the database, in one conditional {@code UPDATE} that adds
+     * the delta and checks the resulting stock, so concurrent requests on the same product never overwrite
+     * each other, unlike a read-modify-write through {@link #update}.
+     * </p>
+     *
+     * @param id                        the UUID of the product to adjust (must not be null).
+     * @param stockAdjustmentDTORequest the request body holding the {@code delta}.
+     * @return a {@link ResponseEntity} containing the resulting {@link ProductStockDTOResponse}.
+     *
+     * @response 200 Successfully adjusted the stock.
+     * @response 400 If the delta is missing or the UUID format is invalid.
+     * @response 404 If no product is found with the given ID.
+     * @response 409 If the adjustment would make the stock negative; the stock is left unchanged.
+     */
+    @PostMapping("/{id}/stock/adjust")
+    public ResponseEntity<ProductStockDTOResponse> adjustStock(
+            @PathVariable @NotNull UUID id,
+            @Valid @RequestBody StockAdjustmentDTORequest stockAdjustmentDTORequest) {
+        return ResponseEntity.ok(productService.adjustStock(id, stockAdjustmentDTORequest));
+    }
+
+    /**
+     * Adjusts the stock of several products at once, all or nothing (e.g. every line of an order).
+     *
+     * @param stockAdjustmentDTORequests the adjustments to apply (1 to 5000 items), each with an {@code id} and a {@code delta}.
+     * @return a {@link ResponseEntity} containing the resulting stock of every adjusted product, ordered by ID.
+     *
+     * @response 200 Every adjustment was applied.
+     * @response 400 If the list is empty, too large, or an item lacks its {@code id} or {@code delta}.
+     * @response 404 If one of the products does not exist; no adjustment is applied.
+     * @response 409 If one of the adjustments would make a stock negative; no adjustment is applied.
+     */
+    @PostMapping("/stock/adjust")
+    public ResponseEntity<List<ProductStockDTOResponse>> adjustStocks(
+            @RequestBody @NotEmpty @Size(max = 5000) List<StockAdjustmentDTORequest> stockAdjustmentDTORequests) {
+        return ResponseEntity.ok(productService.adjustStocks(stockAdjustmentDTORequests));
     }
 
     /**
      * Deletes an existing product by its UUID.
      *
-     * @param id the UUID of the product to delete (must not be null).
+     * @param id      the UUID of the product to delete (must not be null).
+     * @param ifMatch the optional {@code If-Match} header; if present, the product is only
+     *                deleted while it still matches that tag.
      * @return a {@link ResponseEntity} with HTTP 204 (No Content) if deletion is successful.
      *
      * @response 204 Successfully deleted the product.
      * @response 400 If the UUID format is invalid.
      * @response 404 If no product is found with the given ID.
+     * @response 412 If the product no longer matches the {@code If-Match} tag; nothing is deleted.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable @NotNull UUID id) {
-        productService.delete(id);
+    public ResponseEntity<?> delete(
+            @PathVariable @NotNull UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.delete(id, ProductETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Whether an {@code Accept-Encoding} header accepts gzip, i.e. lists it without {@code q=0}.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip"))
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,130 @@
+package com.example.productsapi.product.infrastructure.restcontroller;
+
+import com.example.productsapi.common.infrastructure.config.ConditionalOnR2dbcPersistence;
+import com.example.productsapi.product.application.IReactiveProductService;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.request.UpdateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductDTOResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive REST controller exposing the product CRUD endpoints on top of {@link IReactiveProductService}.
+ * <p>
+ * Serves the same paths, status codes and payloads as {@link ProductsController}, returning
+ * {@link Mono} publishers so that requests are handled by a small number of event-loop threads.
+ * </p>
+ *
+ * <p><b>Design note:</b> Only registered when {@code products.persistence.type=r2dbc}, which replaces
+ * {@link ProductsController}. Batch, keyset and other endpoints of the JPA stack are not available
+ * in this mode.</p>
+ */
+@RestController
+@ConditionalOnR2dbcPersistence
+@RequestMapping("/api/v1/products")
+@Validated
+@RequiredArgsConstructor
+public class ReactiveProductsController {
+
+    private final IReactiveProductService productService;
+
+    /**
+     * Retrieves a paginated and sorted list of all products.
+     *
+     * @param pageable the pagination and sorting configuration.
+     *                 Defaults to page size 20 and sorted ascending by ID.
+     * @return a {@link Mono} of {@link ResponseEntity} containing a {@link Page} of {@link ProductDTOResponse}.
+     *
+     * @response 200 Successfully retrieved the paginated list of products.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Page<ProductDTOResponse>>> getAll(
+            @PageableDefault(size = 20)
+            @SortDefault.SortDefaults({
+                    @SortDefault(sort = "id", direction = Sort.Direction.ASC)
+            })
+            Pageable pageable) {
+        return productService.getAll(pageable)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves a single product by its unique identifier.
+     *
+     * @param id the UUID of the product to retrieve (must not be null).
+     * @return a {@link Mono} of {@link ResponseEntity} containing the {@link ProductDTOResponse}.
+     *
+     * @response 200 Successfully found and returned the product.
+     * @response 404 If no product is found with the specified ID.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductDTOResponse>> getById(@PathVariable @NotNull UUID id) {
+        return productService.getById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Creates a new product in the system.
+     *
+     * @param createProductDTORequest the request body containing product details.
+     * @return a {@link Mono} of {@link ResponseEntity} containing the created {@link ProductDTOResponse}.
+     *
+     * @response 201 Successfully created a new product.
+     * @response 400 If request data violates validation rules.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ProductDTOResponse>> create(@Valid @RequestBody CreateProductDTORequest createProductDTORequest) {
+        return productService.create(createProductDTORequest)
+                .map(productDTOResponse -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(productDTOResponse));
+    }
+
+    /**
+     * Updates an existing product by its UUID.
+     *
+     * @param id                      the UUID of the product to update (must not be null).
+     * @param updateProductDTORequest the request body containing the new values for the product.
+     * @return a {@link Mono} of {@link ResponseEntity} containing the updated {@link ProductDTOResponse}.
+     *
+     * @response 200 Successfully updated the product.
+     * @response 400 If validation fails or data is invalid.
+     * @response 404 If the product to update is not found.
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ProductDTOResponse>> update(
+            @PathVariable @NotNull UUID id,
+            @Valid @RequestBody UpdateProductDTORequest updateProductDTORequest) {
+        return productService.update(id, updateProductDTORequest)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Deletes an existing product by its UUID.
+     *
+     * @param id the UUID of the product to delete (must not be null).
+     * @return a {@link Mono} of {@link ResponseEntity} with HTTP 204 (No Content) if deletion is successful.
+     *
+     * @response 204 Successfully deleted the product.
+     * @response 404 If no product is found with the given ID.
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable @NotNull UUID id) {
+        return productService.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.productsapi.common.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in mode that executes every HTTP request, and therefore the service and repository
+ * calls made while handling it, on a new virtual thread instead of Tomcat's bounded pool.
+ * <p>
+ * Only compiled by the {@code java21} Maven profile and only active when
+ * {@code products.threads.virtual.enabled=true}.
+ * </p>
+ *
+ * <p><b>Design notes:</b></p>
+ * <ul>
+ *   <li>A thread blocked on JDBC no longer holds a scarce platform thread, so concurrency is
+ *   bounded by the connection pool ({@code spring.datasource.hikari.maximum-pool-size}) rather
+ *   than by {@code server.tomcat.threads.max}.</li>
+ *   <li>The application task executor (used for async MVC processing) is replaced as well.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(name = "products.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Replaces the executor of Tomcat's protocol handler with a virtual-thread-per-task executor.
+     *
+     * @return the customizer applied to the embedded Tomcat connector.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Runs async request processing on virtual threads as well.
+     *
+     * @return the application task executor backed by virtual threads.
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            "taskExecutor"
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+}
@@ -0,0 +1,33 @@
+-- ---------------------------------------------------------------------------------------------
+-- Migration of tbl_products.id to the compact, time-ordered layout used by ProductEntity:
+--   * column type BINARY(16) (UUID bytes in canonical, big-endian order)
+--   * new identifiers generated as UUIDv7, so inserts append at the end of the clustered index
+--
+-- Existing identifiers are kept as they are (only their storage changes, if needed), so
+-- product URLs held by clients remain valid. Run with the application stopped (MySQL 8.0+).
+-- ---------------------------------------------------------------------------------------------
+
+-- 1. Inspect the current layout of the identifier column.
+SELECT COLUMN_TYPE
+FROM information_schema.COLUMNS
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME = 'tbl_products'
+  AND COLUMN_NAME = 'id';
+
+-- 2a. If the column is CHAR(36)/VARCHAR(36) (textual UUIDs, e.g. created by Hibernate 5),
+--     convert the values to BINARY(16). UUID_TO_BIN without the swap flag keeps the canonical
+--     byte order, which is the one Hibernate reads and writes.
+--
+-- ALTER TABLE tbl_products ADD COLUMN id_bin BINARY(16) NULL;
+-- UPDATE tbl_products SET id_bin = UUID_TO_BIN(id);
+-- ALTER TABLE tbl_products DROP PRIMARY KEY, DROP COLUMN id;
+-- ALTER TABLE tbl_products RENAME COLUMN id_bin TO id;
+-- ALTER TABLE tbl_products MODIFY COLUMN id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- 2b. If the column is already BINARY(16) (the Hibernate 6 default for UUID on MySQL),
+--     no data conversion is required: random v4 identifiers stay valid, and every new
+--     identifier is a UUIDv7 that sorts after all previously generated UUIDv7 values.
+
+-- 3. In both cases, rebuild the clustered index once to compact the pages split by the
+--    random v4 inserts. New inserts will no longer fragment it.
+OPTIMIZE TABLE tbl_products;
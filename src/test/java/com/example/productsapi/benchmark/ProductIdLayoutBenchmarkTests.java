@@ -0,0 +1,96 @@
+package com.example.productsapi.benchmark;
+
+import com.example.productsapi.common.id.UuidBytes;
+import com.example.productsapi.common.id.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Insert benchmark comparing primary key layouts of {@code tbl_products} on a real MySQL server.
+ * <p>
+ * Disabled unless {@code benchmark.jdbc.url} is set, for example:
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=ProductIdLayoutBenchmarkTests \
+ *   -Dbenchmark.jdbc.url="jdbc:mysql://localhost:3307/products_db?rewriteBatchedStatements=true" \
+ *   -Dbenchmark.jdbc.user=root -Dbenchmark.jdbc.password=root -Dbenchmark.rows=1000000
+ * </pre>
+ * <p>
+ * Each layout is loaded into its own scratch table with the same columns as {@code tbl_products}.
+ * The report lists insert throughput and the resulting clustered index size, where the page
+ * splits caused by random keys show up as a larger data length for the same number of rows.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class ProductIdLayoutBenchmarkTests {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final String url = System.getProperty("benchmark.jdbc.url");
+    private final String user = System.getProperty("benchmark.jdbc.user", "root");
+    private final String password = System.getProperty("benchmark.jdbc.password", "root");
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+    @Test
+    void compareInsertThroughputPerIdLayout() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            System.out.printf("%-26s %12s %12s %14s%n", "layout", "rows", "rows/s", "data MB");
+            run(connection, "bench_products_char36_v4", "CHAR(36)", () -> UUID.randomUUID().toString());
+            run(connection, "bench_products_binary16_v4", "BINARY(16)", () -> UuidBytes.toBytes(UUID.randomUUID()));
+            run(connection, "bench_products_binary16_v7", "BINARY(16)", () -> UuidBytes.toBytes(UuidV7.randomUuid()));
+        }
+    }
+
+    private void run(Connection connection, String table, String idType, Supplier<Object> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id " + idType + " NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, description VARCHAR(255) NOT NULL, stock BIGINT NOT NULL, "
+                    + "base_price DOUBLE NOT NULL, cost_price DOUBLE NOT NULL) ENGINE=InnoDB");
+        }
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, name, description, stock, base_price, cost_price) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int row = 1; row <= rows; row++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "product-" + row);
+                insert.setString(3, "benchmark product " + row);
+                insert.setLong(4, row % 100);
+                insert.setDouble(5, 20.0);
+                insert.setDouble(6, 10.0);
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet resultSet = statement.executeQuery("SELECT DATA_LENGTH FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                resultSet.next();
+                double dataMegabytes = resultSet.getLong(1) / (1024.0 * 1024.0);
+                System.out.printf("%-26s %12d %12.0f %14.1f%n", table, rows, rows / seconds, dataMegabytes);
+            }
+            statement.execute("DROP TABLE " + table);
+        }
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.example.productsapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end HTTP load test of {@code ProductsController}.
+ * <p>
+ * Boots the application on a random port against an in-memory H2 database in MySQL mode
+ * ({@code loadtest} profile), seeds a catalog through the batch endpoint and drives a mixed
+ * workload from concurrent HTTP clients. Disabled unless {@code loadtest} is set, for example:
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=ProductsControllerLoadTests -Dloadtest=true \
+ *   -Dloadtest.catalog-size=100000 -Dloadtest.threads=64 -Dloadtest.duration-seconds=60 \
+ *   -Dloadtest.mix=getAll:20,getById:60,create:10,update:7,delete:3
+ * </pre>
+ * <p>
+ * Set {@code loadtest.base-url} to drive an already running instance (e.g. one backed by MySQL)
+ * instead of the embedded one. The report lists, per endpoint, the number of requests, unexpected
+ * responses, throughput and the p50/p99/p999/max latency. It is printed and also written as CSV to
+ * {@code target/loadtest/}, so runs before and after a change can be compared.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ProductsControllerLoadTests {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int PAGE_SIZE = 20;
+    private static final long MAX_TRACKABLE_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final int catalogSize = Integer.getInteger("loadtest.catalog-size", 10_000);
+    private final int threads = Integer.getInteger("loadtest.threads", 32);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+    private final String mix = System.getProperty("loadtest.mix", "getAll:20,getById:60,create:10,update:7,delete:3");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final IdPool ids = new IdPool();
+    private String productsUrl;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        productsUrl = System.getProperty("loadtest.base-url", "http://localhost:" + port) + "/api/v1/products";
+        Map<Operation, Integer> weights = parseMix(mix);
+
+        seedCatalog();
+
+        run(weights, warmupSeconds, new EnumMap<>(Operation.class));
+        Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        Duration elapsed = run(weights, durationSeconds, stats);
+
+        report(stats, elapsed);
+        assertThat(stats.values()).allMatch(operationStats -> operationStats.unexpected.get() == 0);
+    }
+
+    private void seedCatalog() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        for (int from = 0; from < catalogSize; from += SEED_BATCH_SIZE) {
+            int to = Math.min(from + SEED_BATCH_SIZE, catalogSize);
+            List<Map<String, Object>> products = new ArrayList<>();
+            for (int index = from; index < to; index++)
+                products.add(productBody("product-" + index));
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(productsUrl + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(products))));
+            assertThat(response.statusCode()).isEqualTo(201);
+
+            for (JsonNode item : objectMapper.readTree(response.body()).get("items"))
+                ids.add(UUID.fromString(item.get("product").get("id").asText()));
+        }
+        System.out.printf("Seeded %d products in %d ms%n", catalogSize,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private Duration run(Map<Operation, Integer> weights, int seconds, Map<Operation, Stats> stats)
+            throws InterruptedException {
+        weights.keySet().forEach(operation -> stats.put(operation, new Stats()));
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        Instant start = Instant.now();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int worker = 0; worker < threads; worker++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = pick(weights, totalWeight);
+                    Stats operationStats = stats.get(operation);
+                    long requestStart = System.nanoTime();
+                    try {
+                        int status = execute(operation);
+                        if (!operation.expectedStatuses.contains(status))
+                            operationStats.unexpected.incrementAndGet();
+                    } catch (IOException e) {
+                        operationStats.unexpected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    operationStats.latencies.recordValue(Math.min(MAX_TRACKABLE_LATENCY_MICROS,
+                            TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart)));
+                }
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS)).isTrue();
+        return Duration.between(start, Instant.now());
+    }
+
+    private int execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case GET_ALL -> {
+                int pages = Math.max(1, ids.size() / PAGE_SIZE);
+                int page = ThreadLocalRandom.current().nextInt(pages);
+                yield send(HttpRequest.newBuilder(URI.create(productsUrl + "?page=" + page + "&size=" + PAGE_SIZE))
+                        .GET()).statusCode();
+            }
+            case GET_BY_ID -> send(HttpRequest.newBuilder(URI.create(productsUrl + "/" + ids.random()))
+                    .GET()).statusCode();
+            case CREATE -> {
+                HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(productsUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                objectMapper.writeValueAsString(productBody("created-product")))));
+                if (response.statusCode() == 201)
+                    ids.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+                yield response.statusCode();
+            }
+            case UPDATE -> send(HttpRequest.newBuilder(URI.create(productsUrl + "/" + ids.random()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(productBody("updated-product"))))).statusCode();
+            case DELETE -> {
+                UUID id = ids.removeRandom();
+                yield id == null ? 404 : send(HttpRequest.newBuilder(URI.create(productsUrl + "/" + id))
+                        .DELETE()).statusCode();
+            }
+        };
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void report(Map<Operation, Stats> stats, Duration elapsed) throws IOException {
+        double seconds = elapsed.toMillis() / 1000.0;
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,unexpected,requests_per_second,p50_ms,p99_ms,p999_ms,max_ms");
+
+        System.out.printf("Catalog %d products, %d threads, %.1f s%n", catalogSize, threads, seconds);
+        System.out.printf("%-10s %10s %10s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "unexpected", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+        long totalRequests = 0;
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            long requests = latencies.getTotalCount();
+            totalRequests += requests;
+            double[] row = {
+                    requests / seconds,
+                    latencies.getValueAtPercentile(50) / 1000.0,
+                    latencies.getValueAtPercentile(99) / 1000.0,
+                    latencies.getValueAtPercentile(99.9) / 1000.0,
+                    latencies.getMaxValue() / 1000.0};
+
+            System.out.printf("%-10s %10d %10d %10.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey().label,
+                    requests, entry.getValue().unexpected.get(), row[0], row[1], row[2], row[3], row[4]);
+            lines.add(String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f", entry.getKey().label,
+                    requests, entry.getValue().unexpected.get(), row[0], row[1], row[2], row[3], row[4]));
+        }
+        System.out.printf("%-10s %10d %10s %10.1f%n", "total", totalRequests, "", totalRequests / seconds);
+
+        Path reportFile = Path.of("target", "loadtest", "loadtest-" + System.currentTimeMillis() + ".csv");
+        Files.createDirectories(reportFile.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportFile))) {
+            lines.forEach(writer::println);
+        }
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    private static Map<String, Object> productBody(String name) {
+        return Map.of(
+                "name", name,
+                "description", "load test product",
+                "stock", ThreadLocalRandom.current().nextInt(1, 1000),
+                "basePrice", 20.0,
+                "costPrice", 10.0);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.fromLabel(parts[0]), Integer.parseInt(parts[1]));
+        }
+        weights.values().removeIf(weight -> weight <= 0);
+        return weights;
+    }
+
+    private static Operation pick(Map<Operation, Integer> weights, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0)
+                return entry.getKey();
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private enum Operation {
+
+        GET_ALL("getAll", Set.of(200)),
+        GET_BY_ID("getById", Set.of(200, 404)),
+        CREATE("create", Set.of(201)),
+        UPDATE("update", Set.of(200, 404)),
+        DELETE("delete", Set.of(204, 404));
+
+        private final String label;
+        private final Set<Integer> expectedStatuses;
+
+        Operation(String label, Set<Integer> expectedStatuses) {
+            this.label = label;
+            this.expectedStatuses = expectedStatuses;
+        }
+
+        static Operation fromLabel(String label) {
+            for (Operation operation : values()) {
+                if (operation.label.equalsIgnoreCase(label))
+                    return operation;
+            }
+            throw new IllegalArgumentException("Unknown operation '" + label + "' in loadtest.mix");
+        }
+
+    }
+
+    private static class Stats {
+
+        private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_LATENCY_MICROS, 3);
+        private final AtomicLong unexpected = new AtomicLong();
+
+    }
+
+    /**
+     * IDs of the products known to exist, so reads, updates and deletes target real rows.
+     * Products being deleted are removed first; a concurrent read or update may still race
+     * with the delete, which is why {@code 404} is an expected status for those operations.
+     */
+    private static class IdPool {
+
+        private final List<UUID> ids = new ArrayList<>();
+
+        synchronized void add(UUID id) {
+            ids.add(id);
+        }
+
+        synchronized int size() {
+            return ids.size();
+        }
+
+        synchronized UUID random() {
+            return ids.isEmpty() ? new UUID(0, 0) : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        synchronized UUID removeRandom() {
+            if (ids.isEmpty())
+                return null;
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            UUID last = ids.remove(ids.size() - 1);
+            return index == ids.size() ? last : ids.set(index, last);
+        }
+
+    }
+
+}
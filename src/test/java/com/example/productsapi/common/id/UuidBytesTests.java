@@ -0,0 +1,30 @@
+package com.example.productsapi.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UuidBytesTests {
+
+    @Test
+    void roundTripsThroughBinary16() {
+        UUID uuid = UuidV7.randomUuid();
+
+        byte[] bytes = UuidBytes.toBytes(uuid);
+
+        assertEquals(16, bytes.length);
+        assertEquals(uuid, UuidBytes.fromBytes(bytes));
+    }
+
+    @Test
+    void usesBigEndianOrderOfUuidToBin() {
+        UUID uuid = UUID.fromString("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b");
+
+        assertArrayEquals(HexFormat.of().parseHex("0190a1b2c3d47e5f8a6b7c8d9e0f1a2b"), UuidBytes.toBytes(uuid));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.productsapi.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Tests {
+
+    @Test
+    void hasVersionSevenAndRfcVariant() {
+        UUID uuid = UuidV7.randomUuid();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void isMonotonicAsUnsignedBytes() {
+        List<byte[]> generated = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++)
+            generated.add(UuidBytes.toBytes(UuidV7.randomUuid()));
+
+        for (int i = 1; i < generated.size(); i++)
+            assertTrue(Arrays.compareUnsigned(generated.get(i - 1), generated.get(i)) < 0);
+    }
+
+    @Test
+    void holdsCreationTimestamp() {
+        long before = System.currentTimeMillis();
+        long timestamp = UuidV7.timestampMillis(UuidV7.randomUuid());
+
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void rejectsTimestampOfOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampMillis(UUID.randomUUID()));
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.example.productsapi.product.application.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTests {
+
+    private static final int JOINERS = 7;
+
+    private final Counter coalesced = new SimpleMeterRegistry().counter("products.coalesced");
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>(coalesced);
+    private final ExecutorService executor = Executors.newFixedThreadPool(JOINERS + 1);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareTheLeadersResult() throws Exception {
+        Object result = new Object();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return result;
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<Object>> joiners = joinWhileInFlight(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        });
+        release.countDown();
+
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        for (Future<Object> joiner : joiners)
+            assertSame(result, joiner.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(JOINERS, coalesced.count());
+    }
+
+    @Test
+    void leadersExceptionIsThrownToEveryJoiner() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database down");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<Object>> joiners = joinWhileInFlight(Object::new);
+        release.countDown();
+
+        assertSame(failure, causeOf(leader));
+        for (Future<Object> joiner : joiners)
+            assertSame(failure, causeOf(joiner));
+    }
+
+    @Test
+    void completedCallIsForgotten() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Object first = singleFlight.execute("key", () -> calls.incrementAndGet());
+        Object second = singleFlight.execute("key", () -> calls.incrementAndGet());
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(0, coalesced.count());
+    }
+
+    @Test
+    void failedCallIsForgotten() {
+        assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("key", () -> {
+                    throw new IllegalStateException();
+                }));
+
+        assertEquals("retried", singleFlight.execute("key", () -> "retried"));
+        assertEquals(0, coalesced.count());
+    }
+
+    @Test
+    void differentKeysAreNotShared() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        assertEquals("other", singleFlight.execute("other key", () -> "other"));
+        release.countDown();
+        assertEquals("first", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(0, coalesced.count());
+    }
+
+    /**
+     * Submits {@link #JOINERS} callers of the in-flight key, and returns once all of them are waiting for it.
+     */
+    private List<Future<Object>> joinWhileInFlight(Supplier<Object> call) throws InterruptedException {
+        List<Future<Object>> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++)
+            joiners.add(executor.submit(() -> singleFlight.execute("key", call)));
+        // A joiner increments the counter right before waiting for the leader.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.count() < JOINERS && System.nanoTime() < deadline)
+            Thread.sleep(1);
+        assertEquals(JOINERS, coalesced.count());
+        return joiners;
+    }
+
+    private static Throwable causeOf(Future<Object> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.example.productsapi.product.application.cursor;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductCursorCodecTests {
+
+    private final ProductCursorCodec codec = new ProductCursorCodec(new ObjectMapper());
+
+    @Test
+    void roundTripRestoresPropertyTypes() {
+        Sort sort = Sort.by("basePrice", "stock");
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("basePrice", 12.5);
+        keys.put("stock", 3L);
+        keys.put("id", UUID.randomUUID());
+
+        String cursor = codec.encode(ScrollPosition.forward(keys));
+        ScrollPosition decoded = codec.decode(cursor, sort);
+
+        KeysetScrollPosition keyset = assertInstanceOfKeyset(decoded);
+        assertEquals(keys, keyset.getKeys());
+    }
+
+    @Test
+    void blankCursorStartsFromFirstProduct() {
+        assertTrue(codec.decode("", Sort.by("id")).isInitial());
+        assertTrue(codec.decode(null, Sort.by("id")).isInitial());
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        String cursor = codec.encode(ScrollPosition.forward(Map.of("id", UUID.randomUUID())));
+        String tampered = cursor.substring(0, cursor.length() - 4) + "!!!!";
+
+        assertThrows(InvalidDataEntryException.class, () -> codec.decode(tampered, Sort.by("id")));
+        assertThrows(InvalidDataEntryException.class, () -> codec.decode(encodeJson("{\"id\":\"not-a-uuid\"}"), Sort.by("id")));
+        assertThrows(InvalidDataEntryException.class, () -> codec.decode(encodeJson("{\"stock\":\"many\",\"id\":\""
+                + UUID.randomUUID() + "\"}"), Sort.by("stock")));
+    }
+
+    @Test
+    void rejectsCursorOfAnotherSort() {
+        String cursor = codec.encode(ScrollPosition.forward(Map.of("name", "a", "id", UUID.randomUUID())));
+
+        assertThrows(InvalidDataEntryException.class, () -> codec.decode(cursor, Sort.by("stock")));
+        assertThrows(InvalidDataEntryException.class, () -> codec.decode(cursor, Sort.by("id")));
+    }
+
+    @Test
+    void rejectsUnsortableProperty() {
+        assertThrows(InvalidDataEntryException.class, () -> codec.validateSort(Sort.by("version")));
+    }
+
+    private static KeysetScrollPosition assertInstanceOfKeyset(ScrollPosition position) {
+        assertTrue(position instanceof KeysetScrollPosition);
+        return (KeysetScrollPosition) position;
+    }
+
+    private static String encodeJson(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
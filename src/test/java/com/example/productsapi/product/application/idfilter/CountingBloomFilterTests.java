@@ -0,0 +1,118 @@
+package com.example.productsapi.product.application.idfilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountingBloomFilterTests {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void addedUuidsAreAlwaysContained() {
+        CountingBloomFilter filter = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        List<UUID> added = randomUuids(INSERTIONS);
+        added.forEach(filter::add);
+
+        for (UUID uuid : added)
+            assertTrue(filter.mightContain(uuid));
+    }
+
+    @Test
+    void removedUuidIsNoLongerContained() {
+        CountingBloomFilter filter = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        UUID uuid = UUID.randomUUID();
+
+        filter.add(uuid);
+        filter.remove(uuid);
+
+        assertFalse(filter.mightContain(uuid));
+    }
+
+    @Test
+    void removalKeepsUuidsSharingCounters() {
+        // Sized for far fewer UUIDs than added, so that counters are shared between them.
+        CountingBloomFilter filter = new CountingBloomFilter(100, FALSE_POSITIVE_RATE);
+        List<UUID> kept = randomUuids(1_000);
+        List<UUID> removed = randomUuids(1_000);
+        kept.forEach(filter::add);
+        removed.forEach(filter::add);
+
+        removed.forEach(filter::remove);
+
+        for (UUID uuid : kept)
+            assertTrue(filter.mightContain(uuid));
+    }
+
+    @Test
+    void saturatedCountersAreNeverDecremented() {
+        CountingBloomFilter filter = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        UUID uuid = UUID.randomUUID();
+
+        // Its counters stick at 15: the extra additions are not counted, nor are the removals.
+        for (int i = 0; i < 20; i++)
+            filter.add(uuid);
+        for (int i = 0; i < 20; i++)
+            filter.remove(uuid);
+
+        assertTrue(filter.mightContain(uuid));
+    }
+
+    @Test
+    void countersBelowSaturationAreDecrementedBackToZero() {
+        CountingBloomFilter filter = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        UUID uuid = UUID.randomUUID();
+
+        for (int i = 0; i < 14; i++)
+            filter.add(uuid);
+        for (int i = 0; i < 14; i++)
+            filter.remove(uuid);
+
+        assertFalse(filter.mightContain(uuid));
+    }
+
+    @Test
+    void falsePositiveRateMatchesTheConfiguredRate() {
+        CountingBloomFilter filter = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        randomUuids(INSERTIONS).forEach(filter::add);
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (UUID uuid : randomUuids(probes)) {
+            if (filter.mightContain(uuid))
+                falsePositives++;
+        }
+
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < 2 * FALSE_POSITIVE_RATE, "False positive rate " + rate);
+    }
+
+    @Test
+    void filterIsSizedForTheConfiguredRate() {
+        // About 9.6 counters of 4 bits per UUID at 1%, hence about 4.8 bytes.
+        long size = new CountingBloomFilter(INSERTIONS, FALSE_POSITIVE_RATE).sizeInBytes();
+
+        assertTrue(size >= INSERTIONS * 4 && size <= INSERTIONS * 6, "Size " + size);
+    }
+
+    @Test
+    void invalidFalsePositiveRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(INSERTIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(INSERTIONS, 1));
+    }
+
+    private static List<UUID> randomUuids(int count) {
+        List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            uuids.add(UUID.randomUUID());
+        return uuids;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.productsapi.product.application.idfilter;
+
+import com.example.productsapi.common.id.UuidV7;
+import com.example.productsapi.product.domain.Product;
+import com.example.productsapi.product.domain.event.ProductDeletedEvent;
+import com.example.productsapi.product.domain.repository.IProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductIdFilterTests {
+
+    private final UUID existing = UUID.randomUUID();
+    private final UUID deleted = UUID.randomUUID();
+    private final ProductIdFilter productIdFilter = new ProductIdFilter(catalog(existing, deleted));
+
+    ProductIdFilterTests() {
+        // Low enough for the assertions on absent products not to be defeated by a false positive.
+        ReflectionTestUtils.setField(productIdFilter, "falsePositiveRate", 1e-9);
+        ReflectionTestUtils.setField(productIdFilter, "commitMargin", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void everyProductMightExistUntilBuilt() {
+        assertTrue(productIdFilter.mightExist(UUID.randomUUID()));
+    }
+
+    @Test
+    void builtFilterRejectsUnknownProducts() {
+        productIdFilter.build();
+
+        assertTrue(productIdFilter.mightExist(existing));
+        assertFalse(productIdFilter.mightExist(UUID.randomUUID()));
+    }
+
+    @Test
+    void deletedProductIsRemoved() {
+        productIdFilter.build();
+
+        productIdFilter.onProductDeleted(new ProductDeletedEvent(deleted));
+
+        assertFalse(productIdFilter.mightExist(deleted));
+        assertTrue(productIdFilter.mightExist(existing));
+    }
+
+    @Test
+    void productsCreatedSinceTheBuildMightExist() {
+        productIdFilter.build();
+
+        assertTrue(productIdFilter.mightExist(UuidV7.randomUuid()));
+    }
+
+    /**
+     * A repository holding only the given products, supporting the calls made by the build.
+     */
+    private static IProductRepository catalog(UUID... ids) {
+        List<Product> products = Arrays.stream(ids)
+                .map(id -> {
+                    Product product = new Product();
+                    product.setId(id);
+                    return product;
+                })
+                .toList();
+        return (IProductRepository) Proxy.newProxyInstance(
+                IProductRepository.class.getClassLoader(),
+                new Class<?>[]{IProductRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "count" -> (long) products.size();
+                    case "forEach" -> {
+                        @SuppressWarnings("unchecked")
+                        Consumer<Product> action = (Consumer<Product>) args[0];
+                        products.forEach(action);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.productsapi.product.application.imports;
+
+import com.example.productsapi.common.exception.InvalidDataEntryException;
+import com.example.productsapi.product.application.dto.request.CreateProductDTORequest;
+import com.example.productsapi.product.application.dto.response.ProductImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductRecordParserTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csvExpectsHeaderUntilRead() {
+        ProductRecordParser parser = new ProductRecordParser(ProductImportFormat.CSV, objectMapper);
+
+        assertTrue(parser.expectsHeader());
+        parser.readHeader("name,description,stock,basePrice,costPrice");
+        assertFalse(parser.expectsHeader());
+    }
+
+    @Test
+    void ndjsonHasNoHeader() {
+        assertFalse(new ProductRecordParser(ProductImportFormat.NDJSON, objectMapper).expectsHeader());
+    }
+
+    @Test
+    void csvColumnsAreMatchedByName() {
+        ProductRecordParser parser = new ProductRecordParser(ProductImportFormat.CSV, objectMapper);
+        parser.readHeader("CostPrice, stock ,name,basePrice,description");
+
+        CreateProductDTORequest request = parser.parse("5.5,12,\"pencil, HB\",10,");
+
+        assertEquals("pencil, HB", request.getName());
+        assertNull(request.getDescription());
+        assertEquals(12L, request.getStock());
+        assertEquals(10.0, request.getBasePrice());
+        assertEquals(5.5, request.getCostPrice());
+    }
+
+    @Test
+    void missingCsvColumnIsRejected() {
+        ProductRecordParser parser = new ProductRecordParser(ProductImportFormat.CSV, objectMapper);
+
+        assertThrows(InvalidDataEntryException.class, () -> parser.readHeader("name,description,stock,basePrice"));
+    }
+
+    @Test
+    void invalidNumberIsRejected() {
+        ProductRecordParser parser = new ProductRecordParser(ProductImportFormat.CSV, objectMapper);
+        parser.readHeader("name,description,stock,basePrice,costPrice");
+
+        assertThrows(InvalidDataEntryException.class, () -> parser.parse("pencil,,many,10,5"));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.productsapi.product.infrastructure.restcontroller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductETagsTests {
+
+    private static final long NO_VERSION = -1L;
+
+    @Test
+    void tagIsQuotedVersion() {
+        assertEquals("\"3\"", ProductETags.of(3L));
+        assertNull(ProductETags.of(null));
+    }
+
+    @Test
+    void gzipTagIsDistinctFromIdentityTag() {
+        assertEquals("\"3-gzip\"", ProductETags.ofGzip(3L));
+        assertNull(ProductETags.ofGzip(null));
+    }
+
+    @Test
+    void gzipTagsNameTheirVersion() {
+        assertEquals(3L, ProductETags.expectedVersion("\"3-gzip\""));
+        assertEquals(3L, ProductETags.expectedVersion("W/\"3-gzip\""));
+        assertEquals(7L, ProductETags.expectedVersion("\"2\", \"7-gzip\""));
+    }
+
+    @Test
+    void absentOrAnyMatchesEveryVersion() {
+        assertNull(ProductETags.expectedVersion(null));
+        assertNull(ProductETags.expectedVersion(" "));
+        assertNull(ProductETags.expectedVersion("*"));
+        assertNull(ProductETags.expectedVersion("\"1\", *"));
+    }
+
+    @Test
+    void strongAndWeakTagsNameTheirVersion() {
+        assertEquals(3L, ProductETags.expectedVersion("\"3\""));
+        assertEquals(3L, ProductETags.expectedVersion(" W/\"3\" "));
+    }
+
+    @Test
+    void listExpectsMostRecentVersion() {
+        assertEquals(7L, ProductETags.expectedVersion("\"2\", W/\"7\",\"5\""));
+        assertEquals(4L, ProductETags.expectedVersion("\"other\", \"4\""));
+    }
+
+    @Test
+    void foreignTagsMatchNoVersion() {
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("3"));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\"abc\""));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\"-5\""));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\""));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\"1\"\"2\""));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\"-gzip\""));
+        assertEquals(NO_VERSION, ProductETags.expectedVersion("\"3-br\""));
+    }
+
+}